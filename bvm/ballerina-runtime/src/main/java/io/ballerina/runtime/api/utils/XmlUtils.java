@@ -22,12 +22,15 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlQName;
+import io.ballerina.runtime.internal.XmlElementReader;
 import io.ballerina.runtime.internal.XmlFactory;
 import io.ballerina.runtime.internal.XmlValidator;
 import io.ballerina.runtime.internal.values.TableValueImpl;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * Class {@link XmlUtils} provides APIs to handle xml values.
@@ -89,6 +92,23 @@ public class XmlUtils {
         return XmlFactory.parse(reader);
     }
 
+    /**
+     * Create an iterator over the elements at the given path of an XML document, such as each {@code record}
+     * element in {@code <feed><record/><record/></feed>} for the path {@code ["feed", "record"]}. The document is
+     * read as the iterator advances, and only the returned elements are built into XML values.
+     * <p>
+     * The iterator is also {@link AutoCloseable}, and is to be closed if it is not iterated to the end. The given
+     * reader is not closed by the iterator.
+     *
+     * @param reader XML reader
+     * @param path   names of the elements from the root element down to the elements to be returned, each of which
+     *               is either {@code {namespace-uri}local-name} or the local name of an element without a namespace
+     * @return iterator over the XML elements
+     */
+    public static Iterator<BXml> parseElements(Reader reader, List<String> path) {
+        return new XmlElementReader(reader, path);
+    }
+
     /**
      * Converts a {@link BTable} to {@link BXml}.
      *
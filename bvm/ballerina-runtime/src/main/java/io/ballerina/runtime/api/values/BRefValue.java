@@ -19,10 +19,13 @@ package io.ballerina.runtime.api.values;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.Utf8JsonSerializer;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
@@ -82,12 +85,21 @@ public interface BRefValue extends BValue {
     }
 
     /**
-     * Default serialize implementation for {@link BRefValue}.
+     * Default serialize implementation for {@link BRefValue}, which writes the value as JSON text in the default
+     * character set. Nothing is written if the value cannot be converted to json.
      *
      * @param outputStream Represent the output stream that the data will be written to.
      */
     default void serialize(OutputStream outputStream) {
         try {
+            if (StandardCharsets.UTF_8.equals(Charset.defaultCharset())) {
+                // The value is encoded in full before it is written, so that an error for a member which cannot be
+                // converted to json is raised before anything is written to the stream.
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                Utf8JsonSerializer.serialize(this, bytes);
+                bytes.writeTo(outputStream);
+                return;
+            }
             outputStream.write(StringUtils.getJsonString(this).getBytes(Charset.defaultCharset()));
         } catch (IOException e) {
             throw ErrorCreator.createError(StringUtils.fromString("error occurred while serializing data"), e);
@@ -76,7 +76,8 @@ import static io.ballerina.runtime.api.creators.ErrorCreator.createError;
 import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
 import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
 import static io.ballerina.runtime.internal.ErrorUtils.createConversionError;
-import static io.ballerina.runtime.internal.ValueUtils.createRecordValueWithDefaultValues;
+import static io.ballerina.runtime.internal.ValueUtils.createRecordValueWithoutDefaultValues;
+import static io.ballerina.runtime.internal.ValueUtils.populateDefaultValues;
 
 /**
  * This class represents a {@link InputStream} parser which creates a value of the given target type
@@ -219,6 +220,8 @@ public class JsonParser {
         // json, finite, anydata types will be handled the same way as union types, but they do not need conversion
         List<Type> targetTypes = new ArrayList<>();
         List<Integer> listIndices = new ArrayList<>(); // we keep only the current indices of arrays and tuples
+        // the records being populated, the innermost last
+        List<RecordBinding> recordBindings = new ArrayList<>();
         private int nodesStackSizeWhenUnionStarts = -1; // when we come across a union target type we set this value
         private static JsonUtils.NonStringValueProcessingMode mode =
                 JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
@@ -234,6 +237,7 @@ public class JsonParser {
             this.targetTypes.clear();
             this.nodesStackSizeWhenUnionStarts = -1;
             this.listIndices.clear();
+            this.recordBindings.clear();
         }
 
         private void addTargetType(Type type) {
@@ -349,7 +353,12 @@ public class JsonParser {
 
             Type parentTargetType = this.targetTypes.get(this.targetTypes.size() - 1);
             return switch (parentTargetType.getTag()) {
-                case TypeTags.RECORD_TYPE_TAG, TypeTags.MAP_TAG -> {
+                case TypeTags.RECORD_TYPE_TAG -> {
+                    getRecordBinding().putField(parentNode, fieldNames.pop(), currentJsonNode);
+                    this.currentJsonNode = parentNode;
+                    yield FIELD_END_STATE;
+                }
+                case TypeTags.MAP_TAG -> {
                     ((MapValueImpl<BString, Object>) parentNode).putForcefully(
                             StringUtils.fromString(fieldNames.pop()), currentJsonNode);
                     this.currentJsonNode = parentNode;
@@ -406,33 +415,33 @@ public class JsonParser {
         }
 
         private void processRecordType(Type targetType) throws ParserException {
-            BRecordType recordType = (BRecordType) targetType;
-            BMap<BString, Object> constructedMap = (BMap<BString, Object>) this.currentJsonNode;
+            RecordBinding recordBinding = this.recordBindings.remove(this.recordBindings.size() - 1);
+            BMap<BString, Object> recordValue = (BMap<BString, Object>) this.currentJsonNode;
             List<String> notProvidedFields = new ArrayList<>();
-            for (Map.Entry<String, Field> stringFieldEntry : recordType.getFields().entrySet()) {
-                String fieldName = stringFieldEntry.getKey();
-                BString bFieldName = StringUtils.fromString(fieldName);
-                if (constructedMap.containsKey(bFieldName)) {
+            for (RecordFieldDecoder fieldDecoder : recordBinding.decoders.fieldDecoders) {
+                if (recordBinding.providedFields[fieldDecoder.index]) {
                     continue;
                 }
-                long fieldFlags = stringFieldEntry.getValue().getFlags();
+                long fieldFlags = fieldDecoder.field.getFlags();
                 if (SymbolFlags.isFlagOn(fieldFlags, SymbolFlags.REQUIRED)) {
-                    throw new ParserException("missing required field '" + fieldName + "' of type '"
-                                              + stringFieldEntry.getValue().getFieldType().toString() +
+                    throw new ParserException("missing required field '" + fieldDecoder.field.getFieldName() +
+                                              "' of type '" + fieldDecoder.field.getFieldType().toString() +
                                               "' in record '" + targetType + "'");
                 } else if (!SymbolFlags.isFlagOn(fieldFlags, SymbolFlags.OPTIONAL)) {
-                    notProvidedFields.add(fieldName);
+                    notProvidedFields.add(fieldDecoder.field.getFieldName());
                 }
             }
-            BMap<BString, Object> recordValue = createRecordValueWithDefaultValues(recordType.getPackage(),
-                    recordType.getName(), notProvidedFields);
-            for (Map.Entry<BString, Object> fieldEntry : constructedMap.entrySet()) {
-                recordValue.populateInitialValue(fieldEntry.getKey(), fieldEntry.getValue());
+            if (!notProvidedFields.isEmpty()) {
+                populateDefaultValues(recordValue,
+                        (BRecordType) TypeUtils.getImpliedType(recordValue.getType()), notProvidedFields);
             }
-            if (recordType.isReadOnly()) {
+            if (((BRecordType) targetType).isReadOnly()) {
                 recordValue.freezeDirect();
             }
-            this.currentJsonNode = recordValue;
+        }
+
+        private RecordBinding getRecordBinding() {
+            return this.recordBindings.get(this.recordBindings.size() - 1);
         }
 
         private void processJsonAnydataType() {
@@ -463,8 +472,15 @@ public class JsonParser {
         private void initializeCurrentJsonNodeForObject(Type targetType) throws ParserException {
             int targetTypeTag = targetType.getTag();
             switch (targetTypeTag) {
-                case TypeTags.MAP_TAG, TypeTags.RECORD_TYPE_TAG ->
-                        this.currentJsonNode = new MapValueImpl<>(targetType);
+                case TypeTags.MAP_TAG -> this.currentJsonNode = new MapValueImpl<>(targetType);
+                case TypeTags.RECORD_TYPE_TAG -> {
+                    // The fields are populated straight into the record value, whose default values are populated
+                    // once it is known which fields are not provided.
+                    BRecordType recordType = (BRecordType) targetType;
+                    this.currentJsonNode = createRecordValueWithoutDefaultValues(recordType.getPackage(),
+                            recordType.getName());
+                    this.recordBindings.add(new RecordBinding(RecordFieldDecoders.get(recordType)));
+                }
                 case TypeTags.UNION_TAG, TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG, TypeTags.TABLE_TAG,
                         TypeTags.FINITE_TYPE_TAG -> {
                     if (targetType.isReadOnly() && (targetTypeTag == TypeTags.JSON_TAG ||
@@ -519,15 +535,7 @@ public class JsonParser {
                     this.addTargetType(((MapType) lastTargetType).getConstrainedType());
                     break;
                 case TypeTags.RECORD_TYPE_TAG:
-                    BRecordType recordType = (BRecordType) lastTargetType;
-                    String fieldName = this.fieldNames.getFirst();
-                    Map<String, Field> fields = recordType.getFields();
-                    Field field = fields.get(fieldName);
-                    if (field == null) {
-                        this.addTargetType(recordType.restFieldType);
-                    } else {
-                        this.addTargetType(field.getFieldType());
-                    }
+                    this.targetTypes.add(getRecordBinding().decoders.getFieldType(this.fieldNames.getFirst()));
                     break;
                 case TypeTags.UNION_TAG, TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG, TypeTags.TABLE_TAG,
                         TypeTags.FINITE_TYPE_TAG:
@@ -616,15 +624,7 @@ public class JsonParser {
                     this.addTargetType(((MapType) lastTargetType).getConstrainedType());
                     break;
                 case TypeTags.RECORD_TYPE_TAG:
-                    BRecordType recordType = (BRecordType) lastTargetType;
-                    String fieldName = this.fieldNames.getFirst();
-                    Map<String, Field> fields = recordType.getFields();
-                    Field field = fields.get(fieldName);
-                    if (field == null) {
-                        this.addTargetType(recordType.restFieldType);
-                    } else {
-                        this.addTargetType(field.getFieldType());
-                    }
+                    this.targetTypes.add(getRecordBinding().decoders.getFieldType(this.fieldNames.getFirst()));
                     break;
                 case TypeTags.UNION_TAG, TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG, TypeTags.TABLE_TAG,
                         TypeTags.FINITE_TYPE_TAG:
@@ -674,9 +674,7 @@ public class JsonParser {
                 if (parentTargetType.getTag() == TypeTags.RECORD_TYPE_TAG) {
                     BRecordType recordType = (BRecordType) parentTargetType;
                     String fieldName = sm.fieldNames.getFirst();
-                    Map<String, Field> fields = recordType.getFields();
-                    Field field = fields.get(fieldName);
-                    if (field == null && recordType.sealed) {
+                    if (recordType.sealed && ssm.getRecordBinding().decoders.getFieldDecoder(fieldName) == null) {
                         throw new ParserException("field '" + fieldName + "' cannot be added to" +
                                                   " the closed record '" + recordType + "'");
                     }
@@ -730,14 +728,16 @@ public class JsonParser {
                         }
                         break;
                     case TypeTags.RECORD_TYPE_TAG:
-                        // in records, when processing the field name, target type is added to targetTypes list.
-                        Type fieldType = getFieldType(sm, (BRecordType) targetType);
+                        RecordBinding recordBinding = ssm.getRecordBinding();
+                        String fieldName = sm.fieldNames.pop();
                         try {
-                            bString = ValueConverter.getConvertedStringValue((BString) bString, fieldType);
+                            bString = ValueConverter.getConvertedStringValue((BString) bString,
+                                    recordBinding.decoders.getFieldType(fieldName));
                         } catch (BError e) {
                             throw new ParserException(e.getMessage());
                         }
-                        break;
+                        recordBinding.putField(sm.currentJsonNode, fieldName, bString);
+                        return;
                     case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG, TypeTags.UNION_TAG, TypeTags.TABLE_TAG,
                             TypeTags.FINITE_TYPE_TAG:
                         break;
@@ -748,13 +748,6 @@ public class JsonParser {
                         StringUtils.fromString(sm.fieldNames.pop()), bString);
             }
 
-            private static Type getFieldType(StateMachine sm, BRecordType targetType) {
-                String fieldName = sm.fieldNames.getFirst();
-                Map<String, Field> fields = targetType.getFields();
-                Field field = fields.get(fieldName);
-                return field == null ? targetType.restFieldType : field.getFieldType();
-            }
-
         }
 
         /**
@@ -936,21 +929,19 @@ public class JsonParser {
                 case TypeTags.ARRAY_TAG -> processArrayType(str, (ArrayType) referredType);
                 case TypeTags.TUPLE_TAG -> processTupleType(str, (TupleType) referredType);
                 case TypeTags.MAP_TAG -> processMapType(str, (MapType) referredType);
-                case TypeTags.RECORD_TYPE_TAG -> processRecordType(str, (BRecordType) referredType);
+                case TypeTags.RECORD_TYPE_TAG -> processRecordType(str);
                 default -> this.currentJsonNode = convertValues(referredType, str);
             }
         }
 
-        private void processRecordType(String str, BRecordType referredType) throws ParserException {
+        private void processRecordType(String str) throws ParserException {
             if (this.currentJsonNode == null) {
                 throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
             }
+            RecordBinding recordBinding = getRecordBinding();
             String fieldName = this.fieldNames.pop();
-            Map<String, Field> fields = referredType.getFields();
-            Field field = fields.get(fieldName);
-            Type fieldType = field == null ? referredType.restFieldType : field.getFieldType();
-            ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                    StringUtils.fromString(fieldName), convertValues(TypeUtils.getImpliedType(fieldType), str));
+            recordBinding.putField(this.currentJsonNode, fieldName,
+                    convertValues(recordBinding.decoders.getFieldType(fieldName), str));
         }
 
         private void processMapType(String str, MapType referredType) throws ParserException {
@@ -1168,7 +1159,84 @@ public class JsonParser {
         }
     }
 
+    /**
+     * Field decoders of a record type, which are computed once per record type and shared by all the parsers. They
+     * are kept on the record type itself, hence they do not outlive types created at runtime.
+     */
+    private static class RecordFieldDecoders {
+
+        private final Map<String, Field> fields;
+        private final Type declaredRestFieldType;
+        private final RecordFieldDecoder[] fieldDecoders;
+        private final Map<String, RecordFieldDecoder> fieldDecodersByName;
+        private final Type restFieldType;
+
+        private RecordFieldDecoders(BRecordType recordType) {
+            Map<String, Field> fields = recordType.getFields();
+            this.fields = fields;
+            this.declaredRestFieldType = recordType.restFieldType;
+            this.fieldDecoders = new RecordFieldDecoder[fields.size()];
+            this.fieldDecodersByName = new HashMap<>(fields.size() * 2);
+            int index = 0;
+            for (Map.Entry<String, Field> fieldEntry : fields.entrySet()) {
+                Field field = fieldEntry.getValue();
+                RecordFieldDecoder fieldDecoder = new RecordFieldDecoder(index, field,
+                        StringUtils.fromString(fieldEntry.getKey()), TypeUtils.getImpliedType(field.getFieldType()));
+                this.fieldDecoders[index++] = fieldDecoder;
+                this.fieldDecodersByName.put(fieldEntry.getKey(), fieldDecoder);
+            }
+            this.restFieldType = recordType.restFieldType == null ? null :
+                    TypeUtils.getImpliedType(recordType.restFieldType);
+        }
 
+        private static RecordFieldDecoders get(BRecordType recordType) {
+            RecordFieldDecoders decoders = (RecordFieldDecoders) recordType.getJsonFieldDecoders();
+            // The fields of recursive record types are set after the types are created.
+            if (decoders == null || decoders.fields != recordType.getFields() ||
+                    decoders.declaredRestFieldType != recordType.restFieldType) {
+                decoders = new RecordFieldDecoders(recordType);
+                recordType.setJsonFieldDecoders(decoders);
+            }
+            return decoders;
+        }
 
-}
+        private RecordFieldDecoder getFieldDecoder(String fieldName) {
+            return this.fieldDecodersByName.get(fieldName);
+        }
+
+        private Type getFieldType(String fieldName) {
+            RecordFieldDecoder fieldDecoder = this.fieldDecodersByName.get(fieldName);
+            return fieldDecoder == null ? this.restFieldType : fieldDecoder.type;
+        }
+    }
+
+    private record RecordFieldDecoder(int index, Field field, BString name, Type type) {
+    }
+
+    /**
+     * A record value which is being populated, along with the fields that have been provided so far.
+     */
+    private static class RecordBinding {
+
+        private final RecordFieldDecoders decoders;
+        private final boolean[] providedFields;
+
+        private RecordBinding(RecordFieldDecoders decoders) {
+            this.decoders = decoders;
+            this.providedFields = new boolean[decoders.fieldDecoders.length];
+        }
 
+        @SuppressWarnings("unchecked")
+        private void putField(Object recordValue, String fieldName, Object value) {
+            RecordFieldDecoder fieldDecoder = this.decoders.getFieldDecoder(fieldName);
+            BString key;
+            if (fieldDecoder == null) {
+                key = StringUtils.fromString(fieldName);
+            } else {
+                key = fieldDecoder.name;
+                this.providedFields[fieldDecoder.index] = true;
+            }
+            ((BMap<BString, Object>) recordValue).populateInitialValue(key, value);
+        }
+    }
+}
@@ -52,6 +52,59 @@ public class MapUtils {
         updateMapValue(TypeUtils.getImpliedType(mapValue.getType()), mapValue, fieldName, value);
     }
 
+    // The following are used by the generated code to store values of the basic types which are not boxed in the
+    // generated code. If the constraint of the map contains all the values of the basic type, there is no need to
+    // check the inherent type of the map.
+
+    public static void handleMapStore(MapValue<BString, Object> mapValue, BString fieldName, long value) {
+        Type mapType = TypeUtils.getImpliedType(mapValue.getType());
+        if (isConstraintContainingAll(mapType, TypeTags.INT_TAG)) {
+            mapValue.put(fieldName, value);
+            return;
+        }
+        updateMapValue(mapType, mapValue, fieldName, value);
+    }
+
+    public static void handleMapStore(MapValue<BString, Object> mapValue, BString fieldName, double value) {
+        Type mapType = TypeUtils.getImpliedType(mapValue.getType());
+        if (isConstraintContainingAll(mapType, TypeTags.FLOAT_TAG)) {
+            mapValue.put(fieldName, value);
+            return;
+        }
+        updateMapValue(mapType, mapValue, fieldName, value);
+    }
+
+    public static void handleMapStore(MapValue<BString, Object> mapValue, BString fieldName, boolean value) {
+        Type mapType = TypeUtils.getImpliedType(mapValue.getType());
+        if (isConstraintContainingAll(mapType, TypeTags.BOOLEAN_TAG)) {
+            mapValue.put(fieldName, value);
+            return;
+        }
+        updateMapValue(mapType, mapValue, fieldName, value);
+    }
+
+    public static void handleMapStore(MapValue<BString, Object> mapValue, BString fieldName, int byteValue) {
+        Type mapType = TypeUtils.getImpliedType(mapValue.getType());
+        if (isConstraintContainingAll(mapType, TypeTags.BYTE_TAG)) {
+            mapValue.put(fieldName, byteValue);
+            return;
+        }
+        updateMapValue(mapType, mapValue, fieldName, byteValue);
+    }
+
+    private static boolean isConstraintContainingAll(Type mapType, int basicTypeTag) {
+        if (mapType.getTag() != TypeTags.MAP_TAG) {
+            return false;
+        }
+        int constraintTag = TypeUtils.getImpliedType(((BMapType) mapType).getConstrainedType()).getTag();
+        return switch (constraintTag) {
+            case TypeTags.ANY_TAG, TypeTags.ANYDATA_TAG, TypeTags.JSON_TAG -> true;
+            // A byte is also an int.
+            case TypeTags.INT_TAG -> basicTypeTag == TypeTags.INT_TAG || basicTypeTag == TypeTags.BYTE_TAG;
+            default -> constraintTag == basicTypeTag;
+        };
+    }
+
     public static void handleInherentTypeViolatingMapUpdate(Object value, BMapType mapType) {
         if (TypeChecker.checkIsType(value, mapType.getConstrainedType())) {
             return;
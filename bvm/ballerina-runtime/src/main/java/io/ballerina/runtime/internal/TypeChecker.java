@@ -555,7 +555,21 @@ public class TypeChecker {
      * @return flag indicating the equivalence of the two types
      */
     public static boolean checkIsType(Type sourceType, Type targetType) {
-        return checkIsType(sourceType, targetType, null);
+        if (sourceType == targetType) {
+            return true;
+        }
+        if (!(sourceType instanceof BType bSourceType)) {
+            return checkIsType(sourceType, targetType, null);
+        }
+        // Cached results are dropped once the members of any type are set after it is created, such as the fields of
+        // a record type, hence the result for a given pair of types does not change while it is cached.
+        Boolean cachedResult = bSourceType.getCachedTypeCheckResult(targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        boolean result = checkIsType(sourceType, targetType, null);
+        bSourceType.cacheTypeCheckResult(targetType, result);
+        return result;
     }
 
     @Deprecated
@@ -2083,8 +2097,16 @@ public class TypeChecker {
     }
 
     private static boolean checkIsNeverTypeOrStructureTypeWithARequiredNeverMember(Type type) {
-        Set<String> visitedTypeSet = new HashSet<>();
-        return checkIsNeverTypeOrStructureTypeWithARequiredNeverMember(type, visitedTypeSet);
+        if (!(type instanceof BType bType)) {
+            return checkIsNeverTypeOrStructureTypeWithARequiredNeverMember(type, new HashSet<>());
+        }
+        Boolean cachedResult = bType.getCachedRequiredNeverMember();
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        boolean result = checkIsNeverTypeOrStructureTypeWithARequiredNeverMember(type, new HashSet<>());
+        bType.setCachedRequiredNeverMember(result);
+        return result;
     }
 
     private static boolean checkIsNeverTypeOrStructureTypeWithARequiredNeverMember(Type type,
@@ -2099,7 +2121,7 @@ public class TypeChecker {
                     // skip check for fields with self referencing type and not required fields.
                     if ((SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED) ||
                             !SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL)) &&
-                            !visitedTypeSet.contains(field.getFieldType()) &&
+                            !visitedTypeSet.contains(field.getFieldType().getName()) &&
                             checkIsNeverTypeOrStructureTypeWithARequiredNeverMember(field.getFieldType(),
                                     visitedTypeSet)) {
                         return true;
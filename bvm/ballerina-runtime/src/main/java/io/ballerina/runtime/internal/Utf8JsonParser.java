@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Parser which creates a json value from UTF-8 encoded bytes.
+ * <p>
+ * Unlike {@link JsonParser}, the input is not decoded to characters up front. Only the strings which contain non-ASCII
+ * characters are decoded, field names are looked up in a cache by their bytes so that repeated field names share a
+ * single string, and integers are computed from the digits without creating a string.
+ * <p>
+ * Only documents which are valid according to the JSON grammar are parsed this way. For anything else, the document is
+ * parsed again with {@link JsonParser}, so that the result, or the error, is the same as with it. Input streams are
+ * parsed with {@link JsonParser} instead, which reads them as it parses rather than reading the whole stream first.
+ *
+ * @since 2201.9.0
+ */
+public class Utf8JsonParser {
+
+    private static final BMapType JSON_MAP_TYPE = new BMapType(PredefinedTypes.TYPE_JSON);
+    private static final BArrayType JSON_ARRAY_TYPE = new BArrayType(PredefinedTypes.TYPE_JSON);
+    private static final int FIELD_NAME_CACHE_SIZE = 256;
+    private static final int MAX_CACHED_FIELD_NAME_LENGTH = 64;
+    private static final int INITIAL_DEPTH = 16;
+
+    private final byte[] bytes;
+    private final int end;
+    private int pos;
+
+    // The objects and arrays which are being populated, the innermost last, along with the field name for each object.
+    private Object[] containers = new Object[INITIAL_DEPTH];
+    private BString[] fieldNames = new BString[INITIAL_DEPTH];
+    private int depth;
+
+    private final byte[][] cachedFieldNameBytes = new byte[FIELD_NAME_CACHE_SIZE][];
+    private final BString[] cachedFieldNames = new BString[FIELD_NAME_CACHE_SIZE];
+
+    private Utf8JsonParser(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.pos = offset;
+        this.end = offset + length;
+    }
+
+    /**
+     * Parses the given UTF-8 encoded bytes into a json value.
+     *
+     * @param bytes bytes of the JSON document
+     * @return json value
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes) throws BError {
+        return parse(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given buffer into a json value. The position of the buffer is
+     * not changed.
+     *
+     * @param buffer buffer which contains the JSON document
+     * @return json value
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer) throws BError {
+        if (buffer.hasArray()) {
+            return parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return parse(bytes);
+    }
+
+    private static Object parse(byte[] bytes, int offset, int length) throws BError {
+        try {
+            return new Utf8JsonParser(bytes, offset, length).parseDocument();
+        } catch (UnsupportedInputException e) {
+            return JsonParser.parse(new InputStreamReader(new ByteArrayInputStream(bytes, offset, length),
+                    StandardCharsets.UTF_8), PredefinedTypes.TYPE_JSON);
+        }
+    }
+
+    private Object parseDocument() throws UnsupportedInputException {
+        skipWhitespace();
+        while (true) {
+            Object value;
+            switch (peek()) {
+                case '{' -> {
+                    this.pos++;
+                    MapValueImpl<BString, Object> map = new MapValueImpl<>(JSON_MAP_TYPE);
+                    skipWhitespace();
+                    if (peek() != '}') {
+                        push(map);
+                        this.fieldNames[this.depth - 1] = parseFieldName();
+                        continue;
+                    }
+                    this.pos++;
+                    value = map;
+                }
+                case '[' -> {
+                    this.pos++;
+                    ArrayValueImpl array = new ArrayValueImpl(JSON_ARRAY_TYPE);
+                    skipWhitespace();
+                    if (peek() != ']') {
+                        push(array);
+                        continue;
+                    }
+                    this.pos++;
+                    value = array;
+                }
+                case '"' -> value = StringUtils.fromString(parseString());
+                case 't' -> value = parseLiteral(StateMachine.TRUE, Boolean.TRUE);
+                case 'f' -> value = parseLiteral(StateMachine.FALSE, Boolean.FALSE);
+                case 'n' -> value = parseLiteral(StateMachine.NULL, null);
+                default -> value = parseNumber();
+            }
+
+            // Add the value to the enclosing objects and arrays which it completes, until one is left incomplete.
+            while (true) {
+                skipWhitespace();
+                if (this.depth == 0) {
+                    if (this.pos != this.end) {
+                        throw UnsupportedInputException.INSTANCE;
+                    }
+                    return value;
+                }
+                Object container = this.containers[this.depth - 1];
+                int ch = peek();
+                if (container instanceof MapValueImpl) {
+                    @SuppressWarnings("unchecked")
+                    MapValueImpl<BString, Object> map = (MapValueImpl<BString, Object>) container;
+                    map.putForcefully(this.fieldNames[this.depth - 1], value);
+                    if (ch == ',') {
+                        this.pos++;
+                        skipWhitespace();
+                        this.fieldNames[this.depth - 1] = parseFieldName();
+                        break;
+                    } else if (ch != '}') {
+                        throw UnsupportedInputException.INSTANCE;
+                    }
+                } else {
+                    ArrayValueImpl array = (ArrayValueImpl) container;
+                    array.addRefValueForcefully(array.size(), value);
+                    if (ch == ',') {
+                        this.pos++;
+                        skipWhitespace();
+                        break;
+                    } else if (ch != ']') {
+                        throw UnsupportedInputException.INSTANCE;
+                    }
+                }
+                this.pos++;
+                value = container;
+                this.containers[--this.depth] = null;
+            }
+        }
+    }
+
+    private void push(Object container) {
+        if (this.depth == this.containers.length) {
+            this.containers = Arrays.copyOf(this.containers, this.depth * 2);
+            this.fieldNames = Arrays.copyOf(this.fieldNames, this.depth * 2);
+        }
+        this.containers[this.depth++] = container;
+    }
+
+    private int peek() {
+        return this.pos < this.end ? this.bytes[this.pos] & 0xFF : -1;
+    }
+
+    private void skipWhitespace() {
+        while (this.pos < this.end) {
+            byte b = this.bytes[this.pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+            this.pos++;
+        }
+    }
+
+    /**
+     * Parses a field name along with the following colon, leaving the position at the field value.
+     */
+    private BString parseFieldName() throws UnsupportedInputException {
+        if (peek() != '"') {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        int start = this.pos + 1;
+        int hash = 0;
+        int i = start;
+        for (; i < this.end; i++) {
+            byte b = this.bytes[i];
+            if (b == '"') {
+                break;
+            }
+            if (b == '\\' || b < 0) {
+                i = -1;
+                break;
+            }
+            hash = 31 * hash + b;
+        }
+        BString fieldName;
+        int length = i - start;
+        if (i == -1 || i == this.end || length > MAX_CACHED_FIELD_NAME_LENGTH) {
+            fieldName = StringUtils.fromString(parseString());
+        } else {
+            fieldName = getCachedFieldName(start, length, hash);
+            this.pos = i + 1;
+        }
+        skipWhitespace();
+        if (peek() != ':') {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        this.pos++;
+        skipWhitespace();
+        return fieldName;
+    }
+
+    private BString getCachedFieldName(int start, int length, int hash) {
+        int slot = (hash ^ (hash >>> 16)) & (FIELD_NAME_CACHE_SIZE - 1);
+        byte[] cachedBytes = this.cachedFieldNameBytes[slot];
+        if (cachedBytes != null && Arrays.equals(cachedBytes, 0, cachedBytes.length, this.bytes, start,
+                start + length)) {
+            return this.cachedFieldNames[slot];
+        }
+        BString fieldName = StringUtils.fromString(new String(this.bytes, start, length, StandardCharsets.ISO_8859_1));
+        this.cachedFieldNameBytes[slot] = Arrays.copyOfRange(this.bytes, start, start + length);
+        this.cachedFieldNames[slot] = fieldName;
+        return fieldName;
+    }
+
+    private String parseString() throws UnsupportedInputException {
+        int start = ++this.pos;
+        boolean ascii = true;
+        for (int i = start; i < this.end; i++) {
+            byte b = this.bytes[i];
+            if (b == '"') {
+                this.pos = i + 1;
+                return new String(this.bytes, start, i - start,
+                        ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+            }
+            if (b == '\\') {
+                return parseEscapedString(start);
+            }
+            ascii &= b >= 0;
+        }
+        throw UnsupportedInputException.INSTANCE;
+    }
+
+    private String parseEscapedString(int start) throws UnsupportedInputException {
+        StringBuilder sb = new StringBuilder();
+        int segmentStart = start;
+        for (int i = start; i < this.end; i++) {
+            byte b = this.bytes[i];
+            if (b == '"') {
+                sb.append(new String(this.bytes, segmentStart, i - segmentStart, StandardCharsets.UTF_8));
+                this.pos = i + 1;
+                return sb.toString();
+            }
+            if (b != '\\') {
+                continue;
+            }
+            sb.append(new String(this.bytes, segmentStart, i - segmentStart, StandardCharsets.UTF_8));
+            if (++i == this.end) {
+                break;
+            }
+            switch (this.bytes[i]) {
+                case '"' -> sb.append('"');
+                case '\\' -> sb.append('\\');
+                case '/' -> sb.append('/');
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    if (i + 4 >= this.end) {
+                        throw UnsupportedInputException.INSTANCE;
+                    }
+                    int codeUnit = 0;
+                    for (int j = i + 1; j <= i + 4; j++) {
+                        int digit = Character.digit(this.bytes[j], 16);
+                        if (digit < 0) {
+                            throw UnsupportedInputException.INSTANCE;
+                        }
+                        codeUnit = (codeUnit << 4) | digit;
+                    }
+                    sb.append((char) codeUnit);
+                    i += 4;
+                }
+                default -> throw UnsupportedInputException.INSTANCE;
+            }
+            segmentStart = i + 1;
+        }
+        throw UnsupportedInputException.INSTANCE;
+    }
+
+    private Object parseLiteral(String literal, Object value) throws UnsupportedInputException {
+        int length = literal.length();
+        if (this.end - this.pos < length) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        for (int i = 0; i < length; i++) {
+            if (this.bytes[this.pos + i] != literal.charAt(i)) {
+                throw UnsupportedInputException.INSTANCE;
+            }
+        }
+        this.pos += length;
+        return value;
+    }
+
+    private Object parseNumber() throws UnsupportedInputException {
+        int start = this.pos;
+        boolean negative = peek() == '-';
+        if (negative) {
+            this.pos++;
+        }
+        int firstDigit = peek();
+        if (!isDigit(firstDigit)) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        // The value is accumulated as a negative number, which has the larger range.
+        long value = 0;
+        boolean overflow = false;
+        while (isDigit(peek())) {
+            int digit = this.bytes[this.pos++] - '0';
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                overflow = true;
+            }
+            value = value * 10 - digit;
+        }
+        if (firstDigit == '0' && this.pos - start > (negative ? 2 : 1)) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        int ch = peek();
+        if (ch != '.' && ch != 'e' && ch != 'E') {
+            if (overflow || (!negative && value == Long.MIN_VALUE)) {
+                throw UnsupportedInputException.INSTANCE;
+            }
+            if (negative) {
+                return value == 0 ? (Object) (-0.0) : (Object) value;
+            }
+            return -value;
+        }
+        if (ch == '.') {
+            this.pos++;
+            skipDigits();
+        }
+        ch = peek();
+        if (ch == 'e' || ch == 'E') {
+            this.pos++;
+            ch = peek();
+            if (ch == '+' || ch == '-') {
+                this.pos++;
+            }
+            skipDigits();
+        }
+        // Numbers with a fraction or an exponent are created the same way as the JSON parser does, which is only
+        // once it is known that the number is not followed by other characters.
+        ch = peek();
+        if (!(ch == ' ' || ch == '\n' || ch == '\r' || ch == '\t' || isValueEnd(ch))) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        String str = new String(this.bytes, start, this.pos - start, StandardCharsets.ISO_8859_1);
+        return StateMachine.isNegativeZero(str) ? (Object) Double.parseDouble(str) : new DecimalValue(str);
+    }
+
+    private boolean isValueEnd(int ch) {
+        if (this.depth == 0) {
+            return ch == -1;
+        }
+        if (this.containers[this.depth - 1] instanceof MapValueImpl) {
+            return ch == ',' || ch == '}' || ch == ']';
+        }
+        return ch == ',' || ch == ']';
+    }
+
+    private void skipDigits() throws UnsupportedInputException {
+        if (!isDigit(peek())) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        do {
+            this.pos++;
+        } while (isDigit(peek()));
+    }
+
+    private static boolean isDigit(int ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    /**
+     * Thrown when the input is not valid JSON, or uses a form that is left to {@link JsonParser}.
+     */
+    private static class UnsupportedInputException extends Exception {
+
+        static final UnsupportedInputException INSTANCE = new UnsupportedInputException();
+
+        private UnsupportedInputException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,526 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.errors.ErrorCodes;
+import io.ballerina.runtime.internal.errors.ErrorHelper;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.values.DecimalValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.creators.ErrorCreator.createError;
+import static io.ballerina.runtime.internal.errors.ErrorCodes.INCOMPATIBLE_CONVERT_OPERATION;
+import static io.ballerina.runtime.internal.errors.ErrorReasons.VALUE_LANG_LIB_CONVERSION_ERROR;
+import static io.ballerina.runtime.internal.errors.ErrorReasons.VALUE_LANG_LIB_CYCLIC_VALUE_REFERENCE_ERROR;
+
+/**
+ * Serializer which writes a value as UTF-8 encoded JSON text.
+ * <p>
+ * The value is written as it is walked, without converting it to a json value first, and the characters are encoded
+ * to bytes straight into a buffer instead of going through a {@link java.io.Writer}. The field names of each record
+ * type are encoded once and reused for every value of the type.
+ * <p>
+ * The output is the same as that of {@link StringUtils#getJsonString(Object)} encoded in UTF-8, and so are the errors
+ * for values which cannot be converted to json. However, such errors may be raised after part of the value has been
+ * written to the stream. {@link io.ballerina.runtime.api.values.BRefValue#serialize(OutputStream)} encodes the whole
+ * value before writing it instead.
+ *
+ * @since 2201.9.0
+ */
+public class Utf8JsonSerializer {
+
+    private static final int BUFFER_SIZE = 8192;
+    // The longest encoding of a single character, which is an escaped character or a surrogate pair.
+    private static final int MAX_CHAR_BYTES = 4;
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] SEPARATOR = {',', ' '};
+    private static final boolean[] ESCAPE_TRIGGERS = new boolean[93];
+    // Members nested deeper than this are taken to be part of a cycle when checking the rows of a table.
+    private static final int MAX_PLAIN_VALUE_DEPTH = 64;
+
+    static {
+        // Same as JsonGenerator, strings are only escaped if they contain one of these characters.
+        ESCAPE_TRIGGERS['"'] = true;
+        ESCAPE_TRIGGERS['\\'] = true;
+        ESCAPE_TRIGGERS['\b'] = true;
+        ESCAPE_TRIGGERS['\n'] = true;
+        ESCAPE_TRIGGERS['\r'] = true;
+        ESCAPE_TRIGGERS['\t'] = true;
+    }
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int pos;
+    // The containers which are being written, the innermost last.
+    private final List<Object> path = new ArrayList<>();
+
+    private Utf8JsonSerializer(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes the given value as UTF-8 encoded JSON text to the given output stream. The stream is flushed but not
+     * closed.
+     *
+     * @param value value to write
+     * @param out   output stream to write to
+     * @throws BError if the value cannot be converted to json, or if writing to the stream fails
+     */
+    public static void serialize(Object value, OutputStream out) throws BError {
+        Utf8JsonSerializer serializer = new Utf8JsonSerializer(out);
+        try {
+            serializer.writeTopLevelValue(value);
+            serializer.flushBuffer();
+            out.flush();
+        } catch (IOException e) {
+            throw createError(StringUtils.fromString("error occurred while serializing data"), e);
+        }
+    }
+
+    /**
+     * Writes the given value as UTF-8 encoded JSON text to the given buffer, starting at its current position.
+     *
+     * @param value  value to write
+     * @param buffer buffer to write to
+     * @throws BError                              if the value cannot be converted to json
+     * @throws java.nio.BufferOverflowException    if the remaining space in the buffer is not enough
+     */
+    public static void serialize(Object value, ByteBuffer buffer) throws BError {
+        serialize(value, new ByteBufferOutputStream(buffer));
+    }
+
+    private void writeTopLevelValue(Object value) throws IOException {
+        if (value instanceof DecimalValue decimalValue) {
+            // A decimal on its own is written the same as its string value, unlike a decimal member.
+            writeAscii(decimalValue.toString());
+            return;
+        }
+        writeValue(value);
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            writeBytes(NULL);
+        } else if (value instanceof BString stringValue) {
+            writeString(stringValue.getValue());
+        } else if (value instanceof Long longValue) {
+            writeLong(longValue);
+        } else if (value instanceof Integer intValue) {
+            writeLong(intValue);
+        } else if (value instanceof Double doubleValue) {
+            writeAscii(Double.toString(doubleValue));
+        } else if (value instanceof Boolean booleanValue) {
+            writeBytes(booleanValue ? TRUE : FALSE);
+        } else if (value instanceof DecimalValue decimalValue) {
+            writeAscii(decimalValue.value().toString());
+        } else {
+            writeStructuredValue(value);
+        }
+    }
+
+    private void writeStructuredValue(Object value) throws IOException {
+        Type type = TypeUtils.getImpliedType(TypeChecker.getType(value));
+        switch (type.getTag()) {
+            case TypeTags.XML_TAG:
+            case TypeTags.XML_ELEMENT_TAG:
+            case TypeTags.XML_COMMENT_TAG:
+            case TypeTags.XML_PI_TAG:
+            case TypeTags.XML_TEXT_TAG:
+            case TypeTags.REG_EXP_TYPE_TAG:
+                writeString(StringUtils.getStringValue(value));
+                return;
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.ARRAY_TAG:
+                enter(value);
+                writeArray((BArray) value);
+                break;
+            case TypeTags.TABLE_TAG:
+                enter(value);
+                writeTable((BTable<?, ?>) value, (TableType) type);
+                break;
+            case TypeTags.RECORD_TYPE_TAG:
+                enter(value);
+                writeMap((BMap<?, ?>) value, getRecordEncoder((BRecordType) type));
+                break;
+            case TypeTags.MAP_TAG:
+                enter(value);
+                writeMap((BMap<?, ?>) value, null);
+                break;
+            case TypeTags.ERROR_TAG:
+            default:
+                throw createConversionError(value);
+        }
+        path.remove(path.size() - 1);
+    }
+
+    private void enter(Object value) {
+        for (Object container : path) {
+            if (container == value) {
+                throw createError(VALUE_LANG_LIB_CYCLIC_VALUE_REFERENCE_ERROR, ErrorHelper.getErrorDetails(
+                        ErrorCodes.CYCLIC_VALUE_REFERENCE, ((BRefValue) value).getType()));
+            }
+        }
+        path.add(value);
+    }
+
+    private void writeArray(BArray array) throws IOException {
+        writeByte('[');
+        int size = array.size();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                writeBytes(SEPARATOR);
+            }
+            writeValue(array.get(i));
+        }
+        writeByte(']');
+    }
+
+    private void writeTable(BTable<?, ?> table, TableType tableType) throws IOException {
+        int constraintTag = TypeUtils.getImpliedType(tableType.getConstrainedType()).getTag();
+        if (constraintTag != TypeTags.MAP_TAG &&
+                !(constraintTag == TypeTags.RECORD_TYPE_TAG && hasPlainRecordRows(table))) {
+            Object json;
+            try {
+                json = JsonInternalUtils.toJSON(table);
+            } catch (Exception e) {
+                throw createError(VALUE_LANG_LIB_CONVERSION_ERROR, ErrorHelper.getErrorMessage(
+                                INCOMPATIBLE_CONVERT_OPERATION, tableType, PredefinedTypes.TYPE_JSON)
+                        .concat(StringUtils.fromString(": ".concat(e.getMessage()))));
+            }
+            writeValue(json);
+            return;
+        }
+        writeByte('[');
+        boolean first = true;
+        for (Object row : table.values()) {
+            if (!first) {
+                writeBytes(SEPARATOR);
+            }
+            first = false;
+            enter(row);
+            Type rowType = TypeUtils.getImpliedType(TypeChecker.getType(row));
+            writeMap((BMap<?, ?>) row, rowType.getTag() == TypeTags.RECORD_TYPE_TAG ?
+                    getRecordEncoder((BRecordType) rowType) : null);
+            path.remove(path.size() - 1);
+        }
+        writeByte(']');
+    }
+
+    /**
+     * Returns whether the rows of the given record constrained table are converted to json the same as they are
+     * written. Such tables are converted by {@link JsonInternalUtils#toJSON(BTable)}, which fails for nil fields and
+     * for structured array members of other than json types, and writes some other members differently. Such tables
+     * are converted the same way here. Checking the rows does not create any values.
+     */
+    private static boolean hasPlainRecordRows(BTable<?, ?> table) {
+        for (Object row : table.values()) {
+            for (Object fieldValue : ((BMap<?, ?>) row).values()) {
+                if (!isPlainFieldValue(fieldValue, 0)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPlainFieldValue(Object value, int depth) {
+        if (value == null) {
+            return false;
+        }
+        if (isSimpleValue(value)) {
+            return true;
+        }
+        if (depth == MAX_PLAIN_VALUE_DEPTH) {
+            return false;
+        }
+        switch (TypeUtils.getImpliedType(TypeChecker.getType(value)).getTag()) {
+            case TypeTags.XML_TAG:
+            case TypeTags.XML_ELEMENT_TAG:
+            case TypeTags.XML_COMMENT_TAG:
+            case TypeTags.XML_PI_TAG:
+            case TypeTags.XML_TEXT_TAG:
+                return true;
+            case TypeTags.MAP_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+                for (Object member : ((BMap<?, ?>) value).values()) {
+                    if (!isPlainFieldValue(member, depth + 1)) {
+                        return false;
+                    }
+                }
+                return true;
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+                // The members are added to a json array, which only takes structured members of json types.
+                BArray array = (BArray) value;
+                for (int i = 0; i < array.size(); i++) {
+                    Object member = array.get(i);
+                    if (member != null && !isSimpleValue(member)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isSimpleValue(Object value) {
+        return value instanceof BString || value instanceof Long || value instanceof Integer ||
+                value instanceof Double || value instanceof Boolean || value instanceof DecimalValue;
+    }
+
+    private void writeMap(BMap<?, ?> map, RecordEncoder recordEncoder) throws IOException {
+        writeByte('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                writeBytes(SEPARATOR);
+            }
+            first = false;
+            String fieldName = entry.getKey().toString();
+            byte[] encodedFieldName = recordEncoder != null ? recordEncoder.encodedFieldNames.get(fieldName) : null;
+            if (encodedFieldName != null) {
+                writeBytes(encodedFieldName);
+            } else {
+                writeString(fieldName);
+                writeByte(':');
+            }
+            writeValue(entry.getValue());
+        }
+        writeByte('}');
+    }
+
+    private void writeString(String value) throws IOException {
+        writeByte('"');
+        int length = value.length();
+        boolean escape = false;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < ESCAPE_TRIGGERS.length && ESCAPE_TRIGGERS[ch]) {
+                escape = true;
+                break;
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            if (pos > BUFFER_SIZE - MAX_CHAR_BYTES) {
+                flushBuffer();
+            }
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                if (escape) {
+                    writeEscapedAscii(ch);
+                } else {
+                    buffer[pos++] = (byte) ch;
+                }
+            } else if (ch < 0x800) {
+                buffer[pos++] = (byte) (0xC0 | (ch >> 6));
+                buffer[pos++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (!Character.isSurrogate(ch)) {
+                buffer[pos++] = (byte) (0xE0 | (ch >> 12));
+                buffer[pos++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                buffer[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                // Unpaired surrogates are replaced the same as by the UTF-8 charset encoder.
+                buffer[pos++] = '?';
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeEscapedAscii(char ch) {
+        char escaped;
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                escaped = ch;
+                break;
+            case '\b':
+                escaped = 'b';
+                break;
+            case '\n':
+                escaped = 'n';
+                break;
+            case '\r':
+                escaped = 'r';
+                break;
+            case '\f':
+                escaped = 'f';
+                break;
+            case '\t':
+                escaped = 't';
+                break;
+            default:
+                buffer[pos++] = (byte) ch;
+                return;
+        }
+        buffer[pos++] = '\\';
+        buffer[pos++] = (byte) escaped;
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        // The longest long is 19 digits along with the sign.
+        if (pos > BUFFER_SIZE - 20) {
+            flushBuffer();
+        }
+        if (value < 0) {
+            buffer[pos++] = '-';
+            value = -value;
+        }
+        int start = pos;
+        do {
+            buffer[pos++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = pos - 1; i < j; i++, j--) {
+            byte digit = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = digit;
+        }
+    }
+
+    private void writeAscii(String value) throws IOException {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (pos == BUFFER_SIZE) {
+                flushBuffer();
+            }
+            buffer[pos++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeByte(char ch) throws IOException {
+        if (pos == BUFFER_SIZE) {
+            flushBuffer();
+        }
+        buffer[pos++] = (byte) ch;
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (pos + bytes.length > BUFFER_SIZE) {
+            flushBuffer();
+            if (bytes.length > BUFFER_SIZE) {
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, pos, bytes.length);
+        pos += bytes.length;
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, pos);
+        pos = 0;
+    }
+
+    private static BError createConversionError(Object value) {
+        return createError(VALUE_LANG_LIB_CONVERSION_ERROR, ErrorHelper.getErrorDetails(
+                INCOMPATIBLE_CONVERT_OPERATION, TypeChecker.getType(value), PredefinedTypes.TYPE_JSON));
+    }
+
+    private static RecordEncoder getRecordEncoder(BRecordType recordType) {
+        // The encoders are kept on the record types, hence they do not outlive types created at runtime. Field names
+        // added to a type later are written as they are found.
+        RecordEncoder encoder = (RecordEncoder) recordType.getJsonFieldEncoder();
+        if (encoder == null) {
+            encoder = new RecordEncoder(recordType);
+            recordType.setJsonFieldEncoder(encoder);
+        }
+        return encoder;
+    }
+
+    /**
+     * Field names of a record type, encoded along with the quotes and the colon which follows them.
+     */
+    private static class RecordEncoder {
+
+        private final Map<String, byte[]> encodedFieldNames = new HashMap<>();
+
+        RecordEncoder(BRecordType recordType) {
+            for (String fieldName : recordType.getFields().keySet()) {
+                ByteArrayOutputStream encodedFieldName = new ByteArrayOutputStream();
+                Utf8JsonSerializer serializer = new Utf8JsonSerializer(encodedFieldName);
+                try {
+                    serializer.writeString(fieldName);
+                    serializer.writeByte(':');
+                    serializer.flushBuffer();
+                } catch (IOException e) {
+                    // Writing to a byte array does not fail.
+                    throw new IllegalStateException(e);
+                }
+                encodedFieldNames.put(fieldName, encodedFieldName.toByteArray());
+            }
+        }
+    }
+
+    /**
+     * Output stream which writes to a byte buffer.
+     */
+    private static class ByteBufferOutputStream extends OutputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferOutputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            buffer.put(bytes, offset, length);
+        }
+    }
+}
@@ -84,6 +84,30 @@ public class ValueUtils {
         }
     }
 
+    /**
+     * Create a record value using the given package ID and record type name, without populating the default values of
+     * its fields. Those can be populated once the fields which are provided are known, using
+     * {@link #populateDefaultValues(BMap, BRecordType, List)}.
+     *
+     * @param packageId      the package ID where the record type is defined.
+     * @param recordTypeName name of the record type.
+     * @return               value of the record.
+     */
+    public static MapValue<BString, Object> createRecordValueWithoutDefaultValues(Module packageId,
+                                                                                String recordTypeName) {
+        ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(packageId, false));
+        try {
+            return valueCreator.createRecordValue(recordTypeName);
+        } catch (BError e) {
+            // If record type definition not found, get it from test module.
+            String testLookupKey = ValueCreator.getLookupKey(packageId, true);
+            if (ValueCreator.containsValueCreator(testLookupKey)) {
+                return ValueCreator.getValueCreator(testLookupKey).createRecordValue(recordTypeName);
+            }
+            throw e;
+        }
+    }
+
     public static BMap<BString, Object> createRecordValue(Module packageId, String recordTypeName,
                                                           Set<String> providedFields) {
         ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(packageId, false));
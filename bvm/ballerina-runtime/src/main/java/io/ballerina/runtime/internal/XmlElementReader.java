@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Pull based reader of the elements at a given path of an XML document.
+ * <p>
+ * The document is read as the elements are requested, and only the elements at the path are built into xml values.
+ * Everything else, including the ancestors of those elements, is skipped over, hence the memory needed does not
+ * depend on the size of the document but on the size of the largest element returned.
+ * <p>
+ * The XML stream reader is closed once the end of the document is reached or a parse error occurs. A caller which
+ * stops before that is to {@link #close()} the reader. The underlying reader is not closed in either case.
+ *
+ * @since 2201.9.0
+ */
+public class XmlElementReader implements Iterator<BXml>, AutoCloseable {
+
+    private final XMLStreamReader xmlStreamReader;
+    private final List<String> path;
+    // Depth of the element the reader is in, all of whose ancestors match the path.
+    private int depth;
+    private BXml nextElement;
+    private boolean endOfDocument;
+
+    /**
+     * Creates a reader of the elements at the given path.
+     *
+     * @param reader XML reader
+     * @param path   names of the elements from the root element down to the elements to be read, each of which is
+     *               either {@code {namespace-uri}local-name} or the local name of an element without a namespace
+     */
+    public XmlElementReader(Reader reader, List<String> path) {
+        if (path.isEmpty()) {
+            throw ErrorCreator.createError(StringUtils.fromString("path of the elements to read cannot be empty"));
+        }
+        this.path = List.copyOf(path);
+        XMLStreamReader streamReader = null;
+        try {
+            streamReader = XmlTreeBuilder.createXmlStreamReader(reader);
+        } catch (XMLStreamException e) {
+            XmlTreeBuilder.handleXMLStreamException(e);
+        }
+        this.xmlStreamReader = streamReader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextElement == null && !endOfDocument) {
+            nextElement = readNextElement();
+        }
+        return nextElement != null;
+    }
+
+    @Override
+    public BXml next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        BXml element = nextElement;
+        nextElement = null;
+        return element;
+    }
+
+    private BXml readNextElement() {
+        try {
+            while (xmlStreamReader.hasNext()) {
+                switch (xmlStreamReader.next()) {
+                    case START_ELEMENT:
+                        if (!path.get(depth).equals(xmlStreamReader.getName().toString())) {
+                            skipElement();
+                        } else if (depth == path.size() - 1) {
+                            return new XmlTreeBuilder(xmlStreamReader).parseElement();
+                        } else {
+                            depth++;
+                        }
+                        break;
+                    case END_ELEMENT:
+                        depth--;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            close();
+        } catch (Exception e) {
+            try {
+                close();
+            } finally {
+                // The parse error is reported rather than an error in closing the reader.
+                XmlTreeBuilder.handleXMLStreamException(e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stops reading the document, and closes the XML stream reader. Further calls to {@link #hasNext()} return
+     * false.
+     */
+    @Override
+    public void close() {
+        if (endOfDocument) {
+            return;
+        }
+        endOfDocument = true;
+        nextElement = null;
+        try {
+            xmlStreamReader.close();
+        } catch (XMLStreamException e) {
+            XmlTreeBuilder.handleXMLStreamException(e);
+        }
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int nestedElements = 1;
+        while (nestedElements > 0) {
+            int event = xmlStreamReader.next();
+            if (event == START_ELEMENT) {
+                nestedElements++;
+            } else if (event == END_ELEMENT) {
+                nestedElements--;
+            }
+        }
+    }
+}
@@ -80,6 +80,25 @@ public class XmlTreeBuilder {
     }
 
     public XmlTreeBuilder(Reader stringReader) {
+        init();
+        try {
+            xmlStreamReader = createXmlStreamReader(stringReader);
+        } catch (XMLStreamException e) {
+            handleXMLStreamException(e);
+        }
+    }
+
+    /**
+     * Creates a builder for the element the given reader is at, to be built with {@link #parseElement()}.
+     *
+     * @param xmlStreamReader reader positioned at the start of an element
+     */
+    XmlTreeBuilder(XMLStreamReader xmlStreamReader) {
+        init();
+        this.xmlStreamReader = xmlStreamReader;
+    }
+
+    private void init() {
         namespaces = new HashMap<>();
         seqDeque = new ArrayDeque<>();
         siblingDeque = new ArrayDeque<>();
@@ -87,15 +106,13 @@ public class XmlTreeBuilder {
         ArrayList<BXml> siblings = new ArrayList<>();
         siblingDeque.push(siblings);
         seqDeque.push(new XmlSequence(siblings));
+    }
 
-        try {
-            xmlStreamReader = xmlInputFactory.createXMLStreamReader(stringReader);
-        } catch (XMLStreamException e) {
-            handleXMLStreamException(e);
-        }
+    static XMLStreamReader createXmlStreamReader(Reader reader) throws XMLStreamException {
+        return xmlInputFactory.createXMLStreamReader(reader);
     }
 
-    private void handleXMLStreamException(Exception e) {
+    static void handleXMLStreamException(Exception e) {
         String reason = e.getCause() == null ? e.getMessage() : e.getCause().getMessage();
         if (reason == null) {
             throw ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR));
@@ -104,44 +121,9 @@ public class XmlTreeBuilder {
     }
 
     public BXml parse() {
-        boolean readNext = false;
-        int next;
         try {
-            while (xmlStreamReader.hasNext()) {
-                if (readNext) {
-                    readNext = false;
-                    next = xmlStreamReader.getEventType();
-                } else {
-                    next = xmlStreamReader.next();
-                }
-                switch (next) {
-                    case START_ELEMENT:
-                        readElement(xmlStreamReader);
-                        break;
-                    case END_ELEMENT:
-                        endElement();
-                        break;
-                    case PROCESSING_INSTRUCTION:
-                        readPI(xmlStreamReader);
-                        break;
-                    case COMMENT:
-                        readComment(xmlStreamReader);
-                        break;
-                    case CDATA:
-                        readCData(xmlStreamReader);
-                        break;
-                    case CHARACTERS:
-                        readText(xmlStreamReader);
-                        readNext = true;
-                        break;
-                    case END_DOCUMENT:
-                        return buildDocument();
-                    case DTD:
-                        handleDTD(xmlStreamReader);
-                        break;
-                    default:
-                        assert false;
-                }
+            if (readEvents(false)) {
+                return buildDocument();
             }
         } catch (Exception e) {
             handleXMLStreamException(e);
@@ -150,6 +132,67 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Builds the element the reader is at, leaving the reader at the end of the element. The rest of the document
+     * is not read.
+     *
+     * @return the element
+     * @throws XMLStreamException if the element is not well-formed
+     */
+    XmlItem parseElement() throws XMLStreamException {
+        readEvents(true);
+        return (XmlItem) siblingDeque.peek().get(0);
+    }
+
+    // Returns whether the end of the document was reached.
+    private boolean readEvents(boolean singleElement) throws XMLStreamException {
+        // A single element is read from the start element event the reader is already at.
+        boolean readNext = singleElement;
+        int depth = 0;
+        int next;
+        while (xmlStreamReader.hasNext()) {
+            if (readNext) {
+                readNext = false;
+                next = xmlStreamReader.getEventType();
+            } else {
+                next = xmlStreamReader.next();
+            }
+            switch (next) {
+                case START_ELEMENT:
+                    readElement(xmlStreamReader);
+                    depth++;
+                    break;
+                case END_ELEMENT:
+                    endElement();
+                    if (--depth == 0 && singleElement) {
+                        return false;
+                    }
+                    break;
+                case PROCESSING_INSTRUCTION:
+                    readPI(xmlStreamReader);
+                    break;
+                case COMMENT:
+                    readComment(xmlStreamReader);
+                    break;
+                case CDATA:
+                    readCData(xmlStreamReader);
+                    break;
+                case CHARACTERS:
+                    readText(xmlStreamReader);
+                    readNext = true;
+                    break;
+                case END_DOCUMENT:
+                    return true;
+                case DTD:
+                    handleDTD(xmlStreamReader);
+                    break;
+                default:
+                    assert false;
+            }
+        }
+        return false;
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Arrays;
+
+/**
+ * Stack of {@link FunctionFrame}s saved by the functions of a yielded strand.
+ * <p>
+ * A strand is only ever run by one thread at a time, so unlike {@link java.util.Stack} this does not synchronize. The
+ * backing array is created on the first push, hence strands which never yield do not allocate it at all.
+ *
+ * @since 2201.9.0
+ */
+public class FrameStack {
+
+    private static final FunctionFrame[] EMPTY_FRAMES = new FunctionFrame[0];
+    private static final int INITIAL_CAPACITY = 8;
+
+    private FunctionFrame[] frames = EMPTY_FRAMES;
+    private int size;
+
+    public void push(FunctionFrame frame) {
+        if (size == frames.length) {
+            frames = Arrays.copyOf(frames, Math.max(INITIAL_CAPACITY, size << 1));
+        }
+        frames[size++] = frame;
+    }
+
+    public FunctionFrame pop() {
+        FunctionFrame frame = frames[--size];
+        frames[size] = null;
+        return frame;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a copy of the frames, from the first pushed to the last pushed. This may be called from a thread other
+     * than the one running the strand, in which case the copy may miss frames that are being pushed or popped.
+     *
+     * @return frames currently in the stack
+     */
+    public FunctionFrame[] toArray() {
+        FunctionFrame[] currentFrames = frames;
+        return Arrays.copyOf(currentFrames, Math.min(size, currentFrames.length));
+    }
+}
@@ -18,13 +18,15 @@
 
 package io.ballerina.runtime.internal.scheduling;
 
-import java.util.Stack;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Represents a group of {@link SchedulerItem} that should run on same thread.
+ * <p>
+ * Items are kept in a lock-free stack linked through {@link SchedulerItem#nextInGroup}. Any thread may add items, but
+ * only the thread that has scheduled the group takes them out.
  *
  * @since 0.995.0
  */
@@ -32,26 +34,30 @@ public class ItemGroup {
 
     private static final AtomicInteger nextItemGroupId = new AtomicInteger(0);
 
+    private static final AtomicReferenceFieldUpdater<ItemGroup, SchedulerItem> HEAD_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(ItemGroup.class, SchedulerItem.class, "head");
+
+    private static final AtomicIntegerFieldUpdater<ItemGroup> SCHEDULED_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(ItemGroup.class, "scheduled");
+
     private final int id;
 
     /**
-     * Keep the list of items that should run on same thread.
+     * Top of the stack of items that should run on same thread.
      * Using a stack to get advantage of the locality.
      */
-    Stack<SchedulerItem> items = new Stack<>();
+    private volatile SchedulerItem head;
 
     /**
      * Indicates this item is already in runnable list/executing or not.
      */
-    AtomicBoolean scheduled = new AtomicBoolean(false);
-
-    private final ReentrantLock groupLock = new ReentrantLock();
+    private volatile int scheduled;
 
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
     public ItemGroup(SchedulerItem item) {
         this();
-        items.push(item);
+        this.head = item;
     }
 
     public ItemGroup() {
@@ -59,19 +65,56 @@ public class ItemGroup {
     }
 
     public void add(SchedulerItem item) {
-        items.push(item);
+        SchedulerItem top;
+        do {
+            top = head;
+            item.nextInGroup = top;
+        } while (!HEAD_UPDATER.compareAndSet(this, top, item));
     }
 
+    /**
+     * Takes the most recently added item. Must only be called by the thread running this group.
+     *
+     * @return the item or null if there are no items left
+     */
     public SchedulerItem get() {
-        return items.pop();
+        SchedulerItem top;
+        do {
+            top = head;
+            if (top == null) {
+                return null;
+            }
+        } while (!HEAD_UPDATER.compareAndSet(this, top, top.nextInGroup));
+        top.nextInGroup = null;
+        return top;
     }
 
-    public void lock() {
-        this.groupLock.lock();
+    boolean isEmpty() {
+        return head == null;
     }
 
-    public void unlock() {
-        this.groupLock.unlock();
+    /**
+     * Marks the group as scheduled unless it already is.
+     *
+     * @return true if the caller has scheduled the group and therefore has to get it executed
+     */
+    boolean trySchedule() {
+        return scheduled == 0 && SCHEDULED_UPDATER.compareAndSet(this, 0, 1);
+    }
+
+    void setScheduled() {
+        scheduled = 1;
+    }
+
+    /**
+     * Called by the thread running this group when it runs out of items. The group is marked as not scheduled and
+     * then checked again, so that an item added in between is not left behind without a thread to run it.
+     *
+     * @return true if items were added meanwhile and the caller has to continue running the group
+     */
+    boolean release() {
+        scheduled = 0;
+        return head != null && trySchedule();
     }
 
     public int getId() {
@@ -83,6 +126,6 @@ public class ItemGroup {
     }
 
     public boolean isScheduled() {
-        return scheduled.get();
+        return scheduled == 1;
     }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be picked up by the scheduler threads.
+ *
+ * @since 2201.9.0
+ */
+interface RunQueue {
+
+    /**
+     * Adds a newly created group. Implementations may keep it close to the calling scheduler thread.
+     *
+     * @param group group spawned by the current thread
+     */
+    void push(ItemGroup group);
+
+    /**
+     * Adds a group that has to be (re)scheduled in arrival order.
+     *
+     * @param group group to be scheduled
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Retrieves the next group to be executed, waiting if necessary until one becomes available.
+     *
+     * @return next runnable group
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    /**
+     * Checks whether there are no groups waiting to be taken. Groups being added or taken concurrently may or may
+     * not be accounted for.
+     *
+     * @return true if no group is waiting to be taken
+     */
+    boolean isEmpty();
+}
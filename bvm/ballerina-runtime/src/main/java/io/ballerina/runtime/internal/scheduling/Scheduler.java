@@ -35,14 +35,13 @@ import java.io.PrintStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.function.Function;
 
 import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
@@ -64,7 +63,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private final BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
     private static final ConcurrentHashMap<Integer, Strand> currentStrands = new ConcurrentHashMap<>();
@@ -74,6 +73,16 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_MODE system variable.
+     * Setting it to `work-stealing` gives each scheduler thread its own run queue and setting it to
+     * `virtual-thread` runs strands on JDK virtual threads instead of the scheduler thread pool.
+     */
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
+    private static final String WORK_STEALING_MODE = "work-stealing";
+    private static final String VIRTUAL_THREAD_MODE = "virtual-thread";
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -100,8 +109,28 @@ public class Scheduler {
     }
 
     public Scheduler(int numThreads, boolean immortal) {
-        this.numThreads = numThreads;
+        this(numThreads, immortal, schedulerModeConf);
+    }
+
+    Scheduler(int numThreads, boolean immortal, String schedulerMode) {
+        this(numThreads, immortal, schedulerMode, VirtualThreadRunQueue::createVirtualThreadFactory);
+    }
+
+    /**
+     * Creates a scheduler which gets the threads for the virtual-thread mode from the given supplier.
+     *
+     * @param numThreads           number of scheduler threads
+     * @param immortal             whether the scheduler keeps running after all the strands are done
+     * @param schedulerMode        value of the BALLERINA_SCHEDULER_MODE system variable
+     * @param groupThreadFactories supplier of the thread factory for the virtual-thread mode, which supplies null if
+     *                             the mode is not supported
+     */
+    Scheduler(int numThreads, boolean immortal, String schedulerMode,
+              Supplier<ThreadFactory> groupThreadFactories) {
         this.immortal = immortal;
+        this.runnableList = createRunQueue(numThreads, schedulerMode, groupThreadFactories);
+        // Each group gets its own virtual thread, so only the thread calling start() waits for the poison pill.
+        this.numThreads = runnableList instanceof VirtualThreadRunQueue ? 1 : numThreads;
         this.runtimeRegistry = new RuntimeRegistry(this);
         this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
         ItemGroup group = new ItemGroup();
@@ -235,8 +264,8 @@ public class Scheduler {
         totalStrands.incrementAndGet();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
-        group.scheduled.set(true);
-        runnableList.add(group);
+        group.setScheduled();
+        runnableList.push(group);
         return future;
     }
 
@@ -261,8 +290,8 @@ public class Scheduler {
         totalStrands.incrementAndGet();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
-        group.scheduled.set(true);
-        runnableList.add(group);
+        group.setScheduled();
+        runnableList.push(group);
         return future;
     }
 
@@ -295,7 +324,6 @@ public class Scheduler {
      */
     private void run() {
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
                 group = runnableList.take();
@@ -308,38 +336,52 @@ public class Scheduler {
                 break;
             }
 
-            boolean isItemsEmpty = group.items.isEmpty();
-            while (!isItemsEmpty) {
-                Object result = null;
-                Throwable panic = null;
+            runGroup(group);
+        }
+    }
 
-                item = group.get();
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
 
-                try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
+    /**
+     * Executes the items of the given group until it runs out of runnable items.
+     */
+    private void runGroup(ItemGroup group) {
+        while (true) {
+            SchedulerItem item = group.get();
+            if (item == null) {
+                if (group.release()) {
+                    continue;
+                }
+                break;
+            }
 
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = previousStrand;
+            Object result = null;
+            Throwable panic = null;
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                group.lock();
-                if ((isItemsEmpty = group.items.empty())) {
-                    group.scheduled.set(false);
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                group.unlock();
+            } finally {
+                strandHolder.get().strand = previousStrand;
             }
+            postProcess(item, result, panic);
         }
     }
 
@@ -491,16 +533,14 @@ public class Scheduler {
     }
 
     private void addToRunnableList(SchedulerItem item, ItemGroup group) {
-        group.lock();
         group.add(item);
         // Group maybe not picked by any thread at the moment because,
         //  1) All items are blocked.
         //  2) All others have finished
         // In this case we need to put it back in the runnable list.
-        if (group.scheduled.compareAndSet(false, true)) {
+        if (group.trySchedule()) {
             runnableList.add(group);
         }
-        group.unlock();
     }
 
     public FutureValue createFuture(Strand parent, Callback callback, Map<String, Object> properties,
@@ -513,7 +553,7 @@ public class Scheduler {
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
         FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Stack<>();
+        future.strand.frames = new FrameStack();
         return future;
     }
 
@@ -538,6 +578,30 @@ public class Scheduler {
         return runtimeRegistry;
     }
 
+    private RunQueue createRunQueue(int numThreads, String configuredMode,
+                                    Supplier<ThreadFactory> groupThreadFactories) {
+        if (configuredMode == null || configuredMode.isBlank() || numThreads == 1) {
+            return new GlobalRunQueue();
+        }
+        String schedulerMode = configuredMode.trim();
+        if (WORK_STEALING_MODE.equals(schedulerMode)) {
+            return new WorkStealingRunQueue(numThreads);
+        }
+        if (VIRTUAL_THREAD_MODE.equals(schedulerMode)) {
+            ThreadFactory threadFactory = groupThreadFactories.get();
+            if (threadFactory != null) {
+                return new VirtualThreadRunQueue(threadFactory, this::runGroupSafely);
+            }
+            err.println("ballerina: virtual threads are not supported by the current Java runtime, " +
+                    "ignoring system variable:" + RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+            return new GlobalRunQueue();
+        }
+        // Log and continue with default
+        err.println("ballerina: unsupported value '" + configuredMode + "' for system variable:" +
+                RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", using the default scheduler");
+        return new GlobalRunQueue();
+    }
+
     private static int getPoolSize() {
         try {
             if (poolSizeConf != null) {
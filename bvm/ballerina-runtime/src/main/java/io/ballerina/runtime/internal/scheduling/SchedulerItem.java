@@ -33,6 +33,10 @@ class SchedulerItem {
     private Object[] params;
     final FutureValue future;
     boolean parked;
+    /**
+     * Next item in the {@link ItemGroup} this item has been added to.
+     */
+    SchedulerItem nextInGroup;
 
     public SchedulerItem(Function function, Object[] params, FutureValue future) {
         this.future = future;
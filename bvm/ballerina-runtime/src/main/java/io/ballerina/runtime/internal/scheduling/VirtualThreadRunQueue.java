@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunQueue} which runs every group on a new JDK virtual thread as soon as it becomes runnable, instead of
+ * queueing it for a fixed pool of scheduler threads. A strand blocked inside a Java interop call therefore holds
+ * only its own virtual thread.
+ * <p>
+ * Only the poison pills are queued, so that the thread which started the scheduler can wait for them.
+ *
+ * @since 2201.9.0
+ */
+class VirtualThreadRunQueue implements RunQueue {
+
+    private static final String THREAD_NAME_PREFIX = "jbal-strand-vexec-";
+
+    private final ThreadFactory threadFactory;
+    private final Consumer<ItemGroup> groupRunner;
+    private final BlockingQueue<ItemGroup> poisonPills = new LinkedBlockingQueue<>();
+
+    VirtualThreadRunQueue(ThreadFactory threadFactory, Consumer<ItemGroup> groupRunner) {
+        this.threadFactory = threadFactory;
+        this.groupRunner = groupRunner;
+    }
+
+    @Override
+    public void push(ItemGroup group) {
+        add(group);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        if (group == POISON_PILL) {
+            poisonPills.add(group);
+            return;
+        }
+        threadFactory.newThread(() -> groupRunner.accept(group)).start();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        return poisonPills.take();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        // Groups are never queued, they are handed over to a thread as soon as they are added.
+        return true;
+    }
+
+    /**
+     * Creates a factory for virtual threads. Virtual threads are only available from Java 21 onwards, hence the
+     * builder is looked up reflectively.
+     *
+     * @return virtual thread factory or null if the current Java runtime does not support virtual threads
+     */
+    static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method nameMethod = builderClass.getMethod("name", String.class, long.class);
+            builder = nameMethod.invoke(builder, THREAD_NAME_PREFIX, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            return null;
+        }
+    }
+}
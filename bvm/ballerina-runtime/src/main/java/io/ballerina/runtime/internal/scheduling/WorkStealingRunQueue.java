@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link RunQueue} which gives each scheduler thread its own deque.
+ * <p>
+ * Groups spawned by a scheduler thread are pushed to the head of that thread's deque and popped from there (LIFO),
+ * while idle threads steal from the tail of the other deques (FIFO). Groups added from non scheduler threads, and
+ * rescheduled groups, go through a shared injection queue so that they are picked up in arrival order.
+ *
+ * @since 2201.9.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    /**
+     * A scheduler thread looks at the injection queue before its own deque once in this many takes, so that the
+     * injection queue is not starved by a thread that keeps spawning local work.
+     */
+    private static final int INJECTION_QUEUE_CHECK_INTERVAL = 61;
+
+    private final Worker[] workers;
+    private final AtomicInteger nextWorker = new AtomicInteger();
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+    private final ConcurrentLinkedQueue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Worker> idleWorkers = new ConcurrentLinkedQueue<>();
+
+    WorkStealingRunQueue(int numThreads) {
+        this.workers = new Worker[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            workers[i] = new Worker(new ConcurrentLinkedDeque<>());
+        }
+    }
+
+    @Override
+    public void push(ItemGroup group) {
+        Worker worker = currentWorker.get();
+        if (worker != null && worker.deque != null) {
+            worker.deque.offerFirst(group);
+        } else {
+            injectionQueue.offer(group);
+        }
+        signalWork();
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        injectionQueue.offer(group);
+        signalWork();
+    }
+
+    @Override
+    public ItemGroup take() {
+        Worker worker = getOrRegisterWorker();
+        while (true) {
+            ItemGroup group = poll(worker);
+            if (group != null) {
+                return group;
+            }
+
+            // Register as idle before the final check, so that a concurrent add either becomes visible to the
+            // check below or finds this worker in the idle queue and unparks it.
+            idleWorkers.offer(worker);
+            group = poll(worker);
+            if (group != null) {
+                if (!idleWorkers.remove(worker)) {
+                    // Some other thread already picked this worker to run its group, pass the signal on.
+                    signalWork();
+                }
+                return group;
+            }
+            LockSupport.park(this);
+            // Clear the interrupt status, if any, so that the next park does not return immediately.
+            Thread.interrupted();
+            idleWorkers.remove(worker);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!injectionQueue.isEmpty()) {
+            return false;
+        }
+        for (Worker worker : workers) {
+            if (!worker.deque.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ItemGroup poll(Worker worker) {
+        ItemGroup group;
+        if (worker.deque != null) {
+            if (++worker.ticks % INJECTION_QUEUE_CHECK_INTERVAL == 0 && (group = injectionQueue.poll()) != null) {
+                return group;
+            }
+            if ((group = worker.deque.pollFirst()) != null) {
+                return group;
+            }
+        }
+        if ((group = injectionQueue.poll()) != null) {
+            return group;
+        }
+        return steal(worker);
+    }
+
+    private ItemGroup steal(Worker thief) {
+        int start = ThreadLocalRandom.current().nextInt(workers.length);
+        for (int i = 0; i < workers.length; i++) {
+            Worker victim = workers[(start + i) % workers.length];
+            if (victim == thief) {
+                continue;
+            }
+            ItemGroup group = victim.deque.pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void signalWork() {
+        Worker idle = idleWorkers.poll();
+        if (idle != null) {
+            LockSupport.unpark(idle.thread);
+        }
+    }
+
+    private Worker getOrRegisterWorker() {
+        Worker worker = currentWorker.get();
+        if (worker != null) {
+            return worker;
+        }
+        int index = nextWorker.getAndIncrement();
+        // Threads beyond the configured pool size can still take groups, but do not own a deque.
+        worker = index < workers.length ? workers[index] : new Worker(null);
+        worker.thread = Thread.currentThread();
+        currentWorker.set(worker);
+        return worker;
+    }
+
+    private static class Worker {
+
+        final ConcurrentLinkedDeque<ItemGroup> deque;
+        Thread thread;
+        int ticks;
+
+        Worker(ConcurrentLinkedDeque<ItemGroup> deque) {
+            this.deque = deque;
+        }
+    }
+}
@@ -69,7 +69,8 @@ public class BArrayType extends BType implements ArrayType {
 
     public BArrayType(Type elemType, int size, boolean readonly, int typeFlags) {
         this(typeFlags, size, readonly, TypeChecker.hasFillerValue(elemType));
-        setElementType(elemType, 1, elemType.isReadOnly());
+        // A new type is not referred to by cached type check results yet.
+        initElementType(elemType, 1, elemType.isReadOnly());
         setFlagsBasedOnElementType();
     }
 
@@ -85,6 +86,11 @@ public class BArrayType extends BType implements ArrayType {
     }
 
     public void setElementType(Type elementType, int dimensions, boolean elementRO) {
+        initElementType(elementType, dimensions, elementRO);
+        invalidateTypeCheckResults();
+    }
+
+    private void initElementType(Type elementType, int dimensions, boolean elementRO) {
         this.elementType = readonly && !elementRO ? ReadOnlyUtils.getReadOnlyType(elementType) : elementType;
         this.dimensions = dimensions;
     }
@@ -68,7 +68,11 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
     }
 
     public void setDetailType(Type detailType) {
+        if (this.detailType == detailType) {
+            return;
+        }
         this.detailType = detailType;
+        invalidateTypeCheckResults();
     }
 
     @Override
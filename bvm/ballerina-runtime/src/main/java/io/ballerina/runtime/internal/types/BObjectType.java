@@ -147,6 +147,7 @@ public class BObjectType extends BStructureType implements ObjectType {
 
     public void setMethods(MethodType[] methodTypes) {
         this.methodTypes = methodTypes;
+        invalidateTypeCheckResults();
     }
 
     public void setInitMethod(MethodType initMethod) {
@@ -57,6 +57,10 @@ public class BRecordType extends BStructureType implements RecordType {
     private final boolean readonly;
     private IntersectionType immutableType;
     private IntersectionType intersectionType = null;
+    // Field decoders of the JSON parser and field name encoder of the JSON serializer, which are kept on the type so
+    // that they are dropped along with it.
+    private volatile Object jsonFieldDecoders;
+    private volatile Object jsonFieldEncoder;
 
     private final Map<String, BFunctionPointer<Object, ?>> defaultValues = new LinkedHashMap<>();
 
@@ -218,4 +222,20 @@ public class BRecordType extends BStructureType implements RecordType {
         return defaultValues;
     }
 
+    public Object getJsonFieldDecoders() {
+        return jsonFieldDecoders;
+    }
+
+    public void setJsonFieldDecoders(Object jsonFieldDecoders) {
+        this.jsonFieldDecoders = jsonFieldDecoders;
+    }
+
+    public Object getJsonFieldEncoder() {
+        return jsonFieldEncoder;
+    }
+
+    public void setJsonFieldEncoder(Object jsonFieldEncoder) {
+        this.jsonFieldEncoder = jsonFieldEncoder;
+    }
+
 }
@@ -25,7 +25,10 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.internal.TypeChecker;
 
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code BType} represents a type in Ballerina.
@@ -38,12 +41,24 @@ import java.util.Objects;
  * @since 0.995.0
  */
 public abstract class BType implements Type {
+    private static final int INITIAL_CACHED_TYPE_CHECKS = 8;
+    private static final int MAX_CACHED_TYPE_CHECKS = 64;
+    // Incremented whenever the members of a type are set after the type has been created. Until then, type checks
+    // involving the type, or any type referring to it, can give different results, hence cached results which were
+    // computed with an earlier version are not used.
+    private static final AtomicInteger TYPE_MEMBERS_VERSION = new AtomicInteger();
+
     protected String typeName;
     protected Module pkg;
     protected Class<? extends Object> valueClass;
     private int hashCode;
     private Type cachedReferredType = null;
     private Type cachedImpliedType = null;
+    // Whether this is never or a structure type with a required never member, if it has been computed.
+    private volatile CachedResult cachedRequiredNeverMember = null;
+    // Results of type checks with this type as the source type. The target types are weakly referenced, so that the
+    // results do not keep types created at runtime alive.
+    private CachedTypeCheck[] cachedTypeChecks;
 
     protected BType(String typeName, Module pkg, Class<? extends Object> valueClass) {
         this.typeName = typeName;
@@ -212,4 +227,111 @@ public abstract class BType implements Type {
     public Type getCachedImpliedType() {
         return this.cachedImpliedType;
     }
+
+    public void setCachedRequiredNeverMember(boolean requiredNeverMember) {
+        this.cachedRequiredNeverMember = new CachedResult(TYPE_MEMBERS_VERSION.get(), requiredNeverMember);
+    }
+
+    public Boolean getCachedRequiredNeverMember() {
+        CachedResult cachedResult = this.cachedRequiredNeverMember;
+        if (cachedResult == null || cachedResult.version != TYPE_MEMBERS_VERSION.get()) {
+            return null;
+        }
+        return cachedResult.result;
+    }
+
+    /**
+     * Returns the cached result of checking whether this type is a subtype of the given type.
+     *
+     * @param targetType target type of the check, which is compared by reference
+     * @return result of the check, or null if it is not cached
+     */
+    public Boolean getCachedTypeCheckResult(Type targetType) {
+        // Racing with another thread can only make a cached result be missed, as the entries are immutable.
+        CachedTypeCheck[] typeChecks = this.cachedTypeChecks;
+        if (typeChecks == null) {
+            return null;
+        }
+        int version = TYPE_MEMBERS_VERSION.get();
+        for (CachedTypeCheck typeCheck : typeChecks) {
+            if (typeCheck == null) {
+                return null;
+            }
+            if (typeCheck.get() == targetType && typeCheck.version == version) {
+                return typeCheck.result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Caches the result of checking whether this type is a subtype of the given type. Entries of target types which
+     * have been collected, or of earlier versions of the types, are reused. The cache grows up to
+     * {@value #MAX_CACHED_TYPE_CHECKS} entries, after which further results are not cached, so that checking a type
+     * against many target types in turn does not keep replacing the cached results.
+     *
+     * @param targetType target type of the check
+     * @param result     result of the check
+     */
+    public void cacheTypeCheckResult(Type targetType, boolean result) {
+        CachedTypeCheck[] typeChecks = this.cachedTypeChecks;
+        int version = TYPE_MEMBERS_VERSION.get();
+        int index;
+        if (typeChecks == null) {
+            typeChecks = new CachedTypeCheck[INITIAL_CACHED_TYPE_CHECKS];
+            index = 0;
+        } else {
+            index = findFreeTypeCheckEntry(typeChecks, version);
+            if (index < 0) {
+                if (typeChecks.length == MAX_CACHED_TYPE_CHECKS) {
+                    return;
+                }
+                index = typeChecks.length;
+                typeChecks = Arrays.copyOf(typeChecks, typeChecks.length * 2);
+            }
+        }
+        typeChecks[index] = new CachedTypeCheck(targetType, result, version);
+        this.cachedTypeChecks = typeChecks;
+    }
+
+    private static int findFreeTypeCheckEntry(CachedTypeCheck[] typeChecks, int version) {
+        for (int i = 0; i < typeChecks.length; i++) {
+            CachedTypeCheck typeCheck = typeChecks[i];
+            if (typeCheck == null || typeCheck.get() == null || typeCheck.version != version) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Invalidates the cached type check results of all types. This is called whenever the members of a type, such as
+     * the fields of a record type, are set after the type has been created.
+     */
+    static void invalidateTypeCheckResults() {
+        TYPE_MEMBERS_VERSION.incrementAndGet();
+    }
+
+    private static final class CachedResult {
+
+        private final int version;
+        private final boolean result;
+
+        private CachedResult(int version, boolean result) {
+            this.version = version;
+            this.result = result;
+        }
+    }
+
+    private static final class CachedTypeCheck extends WeakReference<Type> {
+
+        private final boolean result;
+        private final int version;
+
+        private CachedTypeCheck(Type targetType, boolean result, int version) {
+            super(targetType);
+            this.result = result;
+            this.version = version;
+        }
+    }
 }
@@ -45,17 +45,24 @@ import io.ballerina.runtime.api.values.BString;
      public BString concat(BString str) {
          StringValue stringValue = (StringValue) str;
          if (stringValue.isNonBmp) {
-             int[] otherSurrogates = ((NonBmpStringValue) str).getSurrogates();
-             int[] newSurrogates = new int[otherSurrogates.length];
-             int length = length();
-             for (int i = 0; i < otherSurrogates.length; i++) {
-                 newSurrogates[i] = otherSurrogates[i] + length;
-             }
-             return new NonBmpStringValue(this.value + str.getValue(), newSurrogates);
+             return concat(this.value, (NonBmpStringValue) str);
+         }
+         if (ConcatStringValue.isLazy(value.length(), str.length())) {
+             return new ConcatStringValue(this, str, value.length() + str.length());
          }
          return new BmpStringValue(this.value + str.getValue());
      }
 
+     static BString concat(String value, NonBmpStringValue str) {
+         int[] otherSurrogates = str.getSurrogates();
+         int[] newSurrogates = new int[otherSurrogates.length];
+         int length = value.length();
+         for (int i = 0; i < otherSurrogates.length; i++) {
+             newSurrogates[i] = otherSurrogates[i] + length;
+         }
+         return new NonBmpStringValue(value + str.getValue(), newSurrogates);
+     }
+
      @Override
      public Long indexOf(BString str, int fromIndex) {
          long index = value.indexOf(str.getValue(), fromIndex);
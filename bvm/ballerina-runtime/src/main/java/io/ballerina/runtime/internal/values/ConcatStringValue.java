@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represent the concatenation of two ballerina strings containing only unicode basic multilingual plane characters.
+ * <p>
+ * The characters are not copied until the value of the string is needed, at which point the whole tree of
+ * concatenations is flattened into a single Java string at once. Hence, building a string by appending to it in a
+ * loop copies each character only once, instead of once per iteration.
+ *
+ * @since 2201.9.0
+ */
+public class ConcatStringValue extends StringValue {
+
+    /**
+     * Concatenations shorter than this are copied right away, as they are cheap to copy and likely to be read.
+     */
+    static final int MIN_LENGTH = 64;
+
+    private final int length;
+    // Either the two parts of the concatenation, or the Java string they were flattened to. A single field is used
+    // so that a thread which reads it while another thread flattens this string sees one or the other.
+    private volatile Object content;
+
+    ConcatStringValue(BString left, BString right, int length) {
+        super(null, false);
+        this.content = new BString[]{left, right};
+        this.length = length;
+    }
+
+    /**
+     * Returns whether the concatenation of two BMP strings of the given lengths should be represented lazily.
+     *
+     * @param leftLength  length of the left string
+     * @param rightLength length of the right string
+     * @return true if the concatenation should be a {@link ConcatStringValue}
+     */
+    static boolean isLazy(int leftLength, int rightLength) {
+        long length = (long) leftLength + rightLength;
+        return length >= MIN_LENGTH && length <= Integer.MAX_VALUE;
+    }
+
+    @Override
+    public String getValue() {
+        Object currentContent = content;
+        if (currentContent instanceof String flattened) {
+            return flattened;
+        }
+        String flattened = flatten((BString[]) currentContent);
+        content = flattened;
+        return flattened;
+    }
+
+    private String flatten(BString[] parts) {
+        char[] chars = new char[length];
+        int end = length;
+        // The parts are copied from right to left, so that the left-nested concatenations created by appending in a
+        // loop only keep a couple of parts pending.
+        Deque<BString> pending = new ArrayDeque<>();
+        pending.push(parts[0]);
+        pending.push(parts[1]);
+        while (!pending.isEmpty()) {
+            BString part = pending.pop();
+            if (part instanceof ConcatStringValue concatString &&
+                    concatString.content instanceof BString[] innerParts) {
+                pending.push(innerParts[0]);
+                pending.push(innerParts[1]);
+                continue;
+            }
+            String value = part.getValue();
+            end -= value.length();
+            value.getChars(0, value.length(), chars, end);
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return getValue().charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        StringValue stringValue = (StringValue) str;
+        if (stringValue.isNonBmp) {
+            return BmpStringValue.concat(getValue(), (NonBmpStringValue) str);
+        }
+        if (isLazy(length, str.length())) {
+            return new ConcatStringValue(this, str, length + str.length());
+        }
+        return new BmpStringValue(getValue() + str.getValue());
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        long index = getValue().indexOf(str.getValue(), fromIndex);
+        return index >= 0 ? index : null;
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        long index = getValue().lastIndexOf(str.getValue(), fromIndex);
+        return index >= 0 ? index : null;
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return new BmpStringValue(getValue().substring(beginIndex, endIndex));
+    }
+}
@@ -31,6 +31,7 @@ import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.Map;
@@ -55,6 +56,21 @@ public class DecimalValue implements SimpleValue, BDecimal {
             new BigDecimal("-9.999999999999999999999999999999999e6144", MathContext.DECIMAL128);
     private static final BigDecimal MIN_DECIMAL_MAGNITUDE =
             new BigDecimal("1.000000000000000000000000000000000e-6143", MathContext.DECIMAL128);
+    // Adjusted exponents strictly between these bounds are neither out of range nor below the minimum magnitude.
+    private static final int MIN_ADJUSTED_EXPONENT = -6143;
+    private static final int MAX_ADJUSTED_EXPONENT = 6144;
+    // Scales of results of arithmetic on unscaled values that fit in a long, which are well within the range.
+    private static final int MAX_COMPACT_SCALE = 6100;
+    private static final long[] LONG_TEN_POWERS = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+            1_000_000_000_000_000_000L
+    };
+    private static final long INFLATED = Long.MIN_VALUE;
+    private static final byte COMPACT_STATE_UNKNOWN = 0;
+    private static final byte COMPACT_STATE_COMPACT = 1;
+    private static final byte COMPACT_STATE_INFLATED = 2;
 
     // Variable used to track the kind of a decimal value.
     @Deprecated
@@ -62,6 +78,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
 
     private final BigDecimal value;
 
+    // Unscaled value of the decimal if it takes up to 62 bits, which lets add, subtract and multiply work on longs
+    // instead of going through BigDecimal arithmetic. It is computed on first use, and the state is written last so
+    // that a strand reading a compact state also reads the unscaled value.
+    private long compactValue;
+    private volatile byte compactState;
+
     public DecimalValue(BigDecimal value) {
         this.value = getValidDecimalValue(value);
         if (!this.booleanValue()) {
@@ -95,17 +117,107 @@ public class DecimalValue implements SimpleValue, BDecimal {
         this.valueKind = valueKind;
     }
 
+    private DecimalValue(long unscaledValue, int scale) {
+        this.value = BigDecimal.valueOf(unscaledValue, scale);
+        if (unscaledValue == 0) {
+            this.valueKind = DecimalValueKind.ZERO;
+        }
+        if (isCompact(unscaledValue)) {
+            this.compactValue = unscaledValue;
+            this.compactState = COMPACT_STATE_COMPACT;
+        }
+    }
+
     private static BigDecimal getValidDecimalValue(BigDecimal bd) {
+        long adjustedExponent = (long) bd.precision() - bd.scale() - 1;
+        if (adjustedExponent > MIN_ADJUSTED_EXPONENT && adjustedExponent < MAX_ADJUSTED_EXPONENT) {
+            return bd;
+        }
         if (bd.compareTo(DECIMAL_MAX) > 0 || bd.compareTo(DECIMAL_MIN) < 0) {
             throw ErrorCreator.createError(ErrorReasons.NUMBER_OVERFLOW,
                     ErrorHelper.getErrorDetails(ErrorCodes.DECIMAL_VALUE_OUT_OF_RANGE));
-        } else if (bd.abs(MathContext.DECIMAL128).compareTo(MIN_DECIMAL_MAGNITUDE) < 0 &&
-                bd.abs(MathContext.DECIMAL128).compareTo(BigDecimal.ZERO) > 0) {
+        }
+        if (bd.signum() != 0 && bd.abs(MathContext.DECIMAL128).compareTo(MIN_DECIMAL_MAGNITUDE) < 0) {
             return BigDecimal.ZERO;
         }
         return bd;
     }
 
+    private static boolean isCompact(long unscaledValue) {
+        return (unscaledValue >> 62) == (unscaledValue >> 63);
+    }
+
+    private long getCompactValue() {
+        byte state = compactState;
+        if (state == COMPACT_STATE_UNKNOWN) {
+            BigInteger unscaledValue = value.unscaledValue();
+            if (unscaledValue.bitLength() < 63) {
+                compactValue = unscaledValue.longValue();
+                state = COMPACT_STATE_COMPACT;
+            } else {
+                state = COMPACT_STATE_INFLATED;
+            }
+            compactState = state;
+        }
+        return state == COMPACT_STATE_COMPACT ? compactValue : INFLATED;
+    }
+
+    /**
+     * Adds or subtracts two decimals on their unscaled values. The result is exact and has at most 19 digits, hence
+     * it is the same as that of BigDecimal arithmetic with {@link MathContext#DECIMAL128}.
+     *
+     * @return the result or null if an unscaled value does not fit in a long
+     */
+    private static DecimalValue addCompact(DecimalValue augend, DecimalValue addend, boolean subtract) {
+        int augendScale = augend.value.scale();
+        int addendScale = addend.value.scale();
+        int scale = Math.max(augendScale, addendScale);
+        long x = scaleCompactValue(augend.getCompactValue(), scale - augendScale);
+        long y = scaleCompactValue(addend.getCompactValue(), scale - addendScale);
+        if (x == INFLATED || y == INFLATED || scale > MAX_COMPACT_SCALE || scale < -MAX_COMPACT_SCALE) {
+            return null;
+        }
+        long result;
+        if (subtract) {
+            result = x - y;
+            if (((x ^ y) & (x ^ result)) < 0) {
+                return null;
+            }
+        } else {
+            result = x + y;
+            if (((x ^ result) & (y ^ result)) < 0) {
+                return null;
+            }
+        }
+        return new DecimalValue(result, scale);
+    }
+
+    private static DecimalValue multiplyCompact(DecimalValue multiplier, DecimalValue multiplicand) {
+        long x = multiplier.getCompactValue();
+        long y = multiplicand.getCompactValue();
+        long scale = (long) multiplier.value.scale() + multiplicand.value.scale();
+        if (x == INFLATED || y == INFLATED || scale > MAX_COMPACT_SCALE || scale < -MAX_COMPACT_SCALE) {
+            return null;
+        }
+        long result = x * y;
+        if (Math.multiplyHigh(x, y) != (result >> 63)) {
+            return null;
+        }
+        return new DecimalValue(result, (int) scale);
+    }
+
+    private static long scaleCompactValue(long compactValue, int scaleIncrease) {
+        if (scaleIncrease == 0 || compactValue == INFLATED) {
+            return compactValue;
+        }
+        if (scaleIncrease >= LONG_TEN_POWERS.length) {
+            return INFLATED;
+        }
+        long tenPower = LONG_TEN_POWERS[scaleIncrease];
+        long result = compactValue * tenPower;
+        return Math.multiplyHigh(compactValue, tenPower) == (result >> 63) ? result : INFLATED;
+    }
+
     /**
      * Get value of the decimal.
      * @return the value
@@ -238,6 +350,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (augend.valueKind == DecimalValueKind.ZERO) {
             return this;
         }
+        DecimalValue sum = addCompact(this, augend, false);
+        if (sum != null) {
+            return sum;
+        }
         return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
     }
 
@@ -257,6 +373,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (subtrahend.valueKind == DecimalValueKind.ZERO) {
             return this;
         }
+        DecimalValue difference = addCompact(this, subtrahend, true);
+        if (difference != null) {
+            return difference;
+        }
         return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                 MathContext.DECIMAL128));
     }
@@ -273,6 +393,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
             return this;
         }
         if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+            DecimalValue product = multiplyCompact(this, multiplicand);
+            if (product != null) {
+                return product;
+            }
             return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                     MathContext.DECIMAL128));
         }
@@ -99,7 +99,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private BTypedesc typedesc;
     private Type type;
     private Type referredType;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // Created on first use, as most maps and records never carry native data.
+    private volatile Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
 
     public MapValueImpl(TypedescValue typedesc) {
@@ -645,7 +646,18 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        Map<String, Object> nativeDataMap = this.nativeData;
+        if (nativeDataMap == null) {
+            nativeDataMap = createNativeDataMap();
+        }
+        nativeDataMap.put(key, data);
+    }
+
+    private synchronized Map<String, Object> createNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
+        return this.nativeData;
     }
 
     /**
@@ -654,7 +666,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        Map<String, Object> nativeDataMap = this.nativeData;
+        return nativeDataMap == null ? null : nativeDataMap.get(key);
     }
 
     @Override
@@ -668,10 +681,11 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     /**
      * Method to retrieve whole native data map.
      *
-     * @return nativeData map
+     * @return nativeData map, which is empty and unmodifiable if no native data has been added
      */
     public Map<String, Object> getNativeDataMap() {
-        return this.nativeData;
+        Map<String, Object> nativeDataMap = this.nativeData;
+        return nativeDataMap == null ? Map.of() : nativeDataMap;
     }
 
     private void initializeIteratorNextReturnType() {
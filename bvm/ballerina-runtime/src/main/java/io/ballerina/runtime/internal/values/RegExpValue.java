@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.values.BTypedesc;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 
@@ -40,6 +41,7 @@ import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 public class RegExpValue implements BRegexpValue, RefValue {
     private final RegExpDisjunction regExpDisjunction;
     private BTypedesc typedesc;
+    private Pattern pattern;
     private static final Type type = PredefinedTypes.TYPE_READONLY_ANYDATA;
 
     public RegExpValue(RegExpDisjunction regExpDisjunction) {
@@ -50,6 +52,25 @@ public class RegExpValue implements BRegexpValue, RefValue {
         return this.regExpDisjunction;
     }
 
+    /**
+     * Returns the Java pattern this regular expression was compiled to, if it has been compiled already.
+     *
+     * @return compiled Java pattern or null
+     */
+    public Pattern getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Caches the Java pattern this regular expression was compiled to. Since regular expressions are immutable, the
+     * same pattern can be used for every match.
+     *
+     * @param pattern compiled Java pattern
+     */
+    public void setPattern(Pattern pattern) {
+        this.pattern = pattern;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.regExpDisjunction.stringValue(parent);
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.internal.TableUtils;
+
+import java.util.Arrays;
+
+import static io.ballerina.runtime.internal.TypeChecker.isEqual;
+
+/**
+ * Storage of the rows of a {@link TableValueImpl}.
+ * <p>
+ * Rows are kept in insertion order in parallel arrays, and the position of a row does not change when its value is
+ * updated. Keyed tables additionally have an open addressing hash index from the keys to the row positions, along
+ * with the hash of each key, so that the keys do not have to be hashed again when the index grows.
+ * <p>
+ * A removed row leaves an empty position behind, which is what lets the iterators simply walk the positions. The
+ * empty positions are dropped when the arrays would otherwise have to grow. Each row is also given an id, which
+ * increases in the order the rows are added, so that an iterator can find where it was after the rows are moved.
+ *
+ * @since 2201.9.0
+ */
+class TableRowStore {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int MIN_REMOVED_ROWS_TO_COMPACT = 16;
+    // Index slot values other than these are row positions plus one.
+    private static final int EMPTY_SLOT = 0;
+    private static final int REMOVED_SLOT = -1;
+
+    private final boolean keyed;
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private long[] rowIds;
+    private int[] index;
+    private int rowCount;
+    private int size;
+    private int usedSlots;
+    private long addedRows;
+    private int compactions;
+
+    TableRowStore(boolean keyed) {
+        this.keyed = keyed;
+        clear();
+    }
+
+    void clear() {
+        values = new Object[INITIAL_CAPACITY];
+        rowIds = new long[INITIAL_CAPACITY];
+        if (keyed) {
+            keys = new Object[INITIAL_CAPACITY];
+            hashes = new int[INITIAL_CAPACITY];
+            index = new int[INITIAL_CAPACITY * 2];
+        }
+        rowCount = 0;
+        size = 0;
+        usedSlots = 0;
+        compactions++;
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return number of rows
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of row positions in use, including the positions of removed rows.
+     *
+     * @return number of row positions
+     */
+    int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of times the row positions have been reassigned. Iterators use this to detect that the
+     * position they are at is no longer valid.
+     *
+     * @return number of times the row positions have been reassigned
+     */
+    int getCompactions() {
+        return compactions;
+    }
+
+    boolean isRemoved(int position) {
+        return values[position] == null;
+    }
+
+    Object getKey(int position) {
+        return keyed ? keys[position] : values[position];
+    }
+
+    Object getValue(int position) {
+        return values[position];
+    }
+
+    long getRowId(int position) {
+        return rowIds[position];
+    }
+
+    /**
+     * Returns the position of the first row, removed or not, whose id is not less than the given id.
+     *
+     * @param rowId id of the row
+     * @return position of the row or the row count if all rows have smaller ids
+     */
+    int findPosition(long rowId) {
+        int low = 0;
+        int high = rowCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rowIds[mid] < rowId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the row with the given key.
+     *
+     * @param key key of the row
+     * @return position of the row or -1 if there is no row with the given key
+     */
+    int find(Object key) {
+        int hash = hash(key);
+        int mask = index.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = index[slot];
+            if (entry == EMPTY_SLOT) {
+                return -1;
+            }
+            if (entry != REMOVED_SLOT && hashes[entry - 1] == hash && isEqual(key, keys[entry - 1])) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Adds a row at the end of the table. For keyed tables, the caller makes sure that there is no row with the
+     * same key already.
+     *
+     * @param key   key of the row, ignored for tables without a key
+     * @param value the row
+     */
+    void add(Object key, Object value) {
+        if (rowCount == values.length) {
+            ensureCapacity();
+        }
+        if (keyed && (usedSlots + 1) * 2 > index.length) {
+            // Removed rows also take up slots, so the index only grows if the rows left need the space.
+            rebuildIndex((size + 1) * 4 > index.length ? index.length * 2 : index.length);
+        }
+        int position = rowCount++;
+        values[position] = value;
+        rowIds[position] = addedRows++;
+        size++;
+        if (keyed) {
+            int hash = hash(key);
+            keys[position] = key;
+            hashes[position] = hash;
+            insertIntoIndex(hash, position);
+            usedSlots++;
+        }
+    }
+
+    /**
+     * Replaces the row at the given position, keeping its place in the iteration order.
+     *
+     * @param position position of the row
+     * @param key      key of the row, which must be equal to the current key
+     * @param value    the new row
+     */
+    void set(int position, Object key, Object value) {
+        keys[position] = key;
+        values[position] = value;
+    }
+
+    /**
+     * Removes the row with the given key.
+     *
+     * @param key key of the row
+     * @return the removed row or null if there is no row with the given key
+     */
+    Object remove(Object key) {
+        int hash = hash(key);
+        int mask = index.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = index[slot];
+            if (entry == EMPTY_SLOT) {
+                return null;
+            }
+            if (entry != REMOVED_SLOT && hashes[entry - 1] == hash && isEqual(key, keys[entry - 1])) {
+                int position = entry - 1;
+                Object value = values[position];
+                index[slot] = REMOVED_SLOT;
+                keys[position] = null;
+                values[position] = null;
+                size--;
+                        return value;
+            }
+        }
+    }
+
+    private void ensureCapacity() {
+        int removedRows = rowCount - size;
+        if (removedRows >= MIN_REMOVED_ROWS_TO_COMPACT && removedRows * 2 >= rowCount) {
+            compact();
+            return;
+        }
+        int capacity = values.length * 2;
+        values = Arrays.copyOf(values, capacity);
+        rowIds = Arrays.copyOf(rowIds, capacity);
+        if (keyed) {
+            keys = Arrays.copyOf(keys, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+        }
+    }
+
+    private void compact() {
+        int newPosition = 0;
+        for (int position = 0; position < rowCount; position++) {
+            if (values[position] == null) {
+                continue;
+            }
+            values[newPosition] = values[position];
+            rowIds[newPosition] = rowIds[position];
+            if (keyed) {
+                keys[newPosition] = keys[position];
+                hashes[newPosition] = hashes[position];
+            }
+            newPosition++;
+        }
+        Arrays.fill(values, newPosition, rowCount, null);
+        if (keyed) {
+            Arrays.fill(keys, newPosition, rowCount, null);
+        }
+        rowCount = newPosition;
+        if (keyed) {
+            rebuildIndex(index.length);
+        }
+        compactions++;
+    }
+
+    private void rebuildIndex(int capacity) {
+        index = new int[capacity];
+        usedSlots = 0;
+        for (int position = 0; position < rowCount; position++) {
+            if (values[position] != null) {
+                insertIntoIndex(hashes[position], position);
+                usedSlots++;
+            }
+        }
+    }
+
+    private void insertIntoIndex(int hash, int position) {
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        while (index[slot] != EMPTY_SLOT) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+    }
+
+    private static int hash(Object key) {
+        long hash = TableUtils.hash(key, null);
+        int h = (int) (hash ^ (hash >>> 32));
+        return h ^ (h >>> 16);
+    }
+}
@@ -41,7 +41,6 @@ import java.io.ByteArrayOutputStream;
 import java.lang.ref.WeakReference;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -74,6 +73,10 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     private AttributeMapValueImpl attributes;
     // Keep track of probable parents of xml element to detect probable cycles in xml.
     private List<WeakReference<XmlItem>> probableParents;
+    // Index of the descendant elements by name, built when the descendants of a readonly element are looked up by
+    // name a second time.
+    private XmlNameIndex descendantIndex;
+    private boolean lookedUpByName;
 
     public XmlItem(QName name, XmlSequence children, boolean readonly) {
         this.name = name;
@@ -176,6 +179,9 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     }
 
     public void setQName(QName name) {
+        if (this.type.isReadOnly()) {
+            ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
+        }
         this.name = name;
     }
 
@@ -419,12 +425,44 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public XmlValue descendants(List<String> qnames) {
+        List<BXml> descendants = new ArrayList<>();
         if (qnames.contains(getQName().toString())) {
-            List<BXml> descendants = Arrays.asList(this);
+            descendants.add(this);
+        }
+        addDescendants(descendants, qnames);
+        return new XmlSequence(descendants);
+    }
+
+    /**
+     * Adds the descendant elements with any of the given names to the given list, in document order.
+     *
+     * @param descendants list to add the descendants to
+     * @param qnames      qualified names of the descendants to search
+     */
+    void addDescendants(List<BXml> descendants, List<String> qnames) {
+        XmlNameIndex index = getDescendantIndex();
+        if (index != null) {
+            index.findElements(descendants, qnames);
+        } else {
             addDescendants(descendants, this, qnames);
-            return new XmlSequence(descendants);
         }
-        return children.descendants(qnames);
+    }
+
+    // Returns the index of the descendant elements, or null if the element is mutable or on the first lookup.
+    private XmlNameIndex getDescendantIndex() {
+        if (!this.type.isReadOnly()) {
+            return null;
+        }
+        XmlNameIndex index = descendantIndex;
+        if (index == null) {
+            if (!lookedUpByName) {
+                lookedUpByName = true;
+                return null;
+            }
+            index = new XmlNameIndex(children.children, true);
+            descendantIndex = index;
+        }
+        return index;
     }
 
     @Override
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.types.XmlNodeType;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of xml elements by name, in document order, which lets elements that are looked up by name repeatedly be
+ * found without walking the elements and building the string form of each of their names.
+ * <p>
+ * Elements do not refer to their parents, hence a change to a descendant of an element cannot be tracked on the
+ * element itself. Indexes are therefore only built for readonly xml, which cannot change once it is constructed.
+ * Readonly xml may be looked up from several strands at once, which is safe as an index is not changed once built.
+ *
+ * @since 2201.9.0
+ */
+final class XmlNameIndex {
+
+    private final List<XmlItem> elements = new ArrayList<>();
+    // The first entry of each array is the number of positions that follow it.
+    private final Map<String, int[]> positions = new HashMap<>();
+
+    /**
+     * Builds an index of the elements in the given nodes.
+     *
+     * @param nodes              readonly xml nodes to index
+     * @param includeDescendants whether to index the descendant elements of the nodes as well
+     */
+    XmlNameIndex(List<BXml> nodes, boolean includeDescendants) {
+        addElements(nodes, includeDescendants);
+    }
+
+    /**
+     * Adds the indexed elements with the given name to the given list, in document order.
+     *
+     * @param result list to add the elements to
+     * @param name   name of the elements, in the form returned by {@link XmlItem#getElementName()}
+     */
+    void findElements(List<BXml> result, String name) {
+        int[] namePositions = positions.get(name);
+        if (namePositions == null) {
+            return;
+        }
+        for (int i = 1; i <= namePositions[0]; i++) {
+            result.add(elements.get(namePositions[i]));
+        }
+    }
+
+    /**
+     * Adds the indexed elements with any of the given names to the given list, in document order.
+     *
+     * @param result list to add the elements to
+     * @param names  names of the elements, in the form returned by {@link XmlItem#getElementName()}
+     */
+    void findElements(List<BXml> result, List<String> names) {
+        if (names.size() == 1) {
+            findElements(result, names.get(0));
+            return;
+        }
+        int[] matchingPositions = new int[0];
+        for (int i = 0; i < names.size(); i++) {
+            int[] namePositions = positions.get(names.get(i));
+            if (namePositions == null || names.indexOf(names.get(i)) != i) {
+                continue;
+            }
+            int count = matchingPositions.length;
+            matchingPositions = Arrays.copyOf(matchingPositions, count + namePositions[0]);
+            System.arraycopy(namePositions, 1, matchingPositions, count, namePositions[0]);
+        }
+        Arrays.sort(matchingPositions);
+        for (int position : matchingPositions) {
+            result.add(elements.get(position));
+        }
+    }
+
+    private void addElements(List<BXml> nodes, boolean includeDescendants) {
+        for (BXml node : nodes) {
+            if (node.getNodeType() != XmlNodeType.ELEMENT) {
+                continue;
+            }
+            XmlItem element = (XmlItem) node;
+            addPosition(element.getElementName(), elements.size());
+            elements.add(element);
+            if (includeDescendants) {
+                addElements(element.getChildrenSeq().getChildrenList(), true);
+            }
+        }
+    }
+
+    private void addPosition(String name, int position) {
+        int[] namePositions = positions.get(name);
+        if (namePositions == null) {
+            namePositions = new int[2];
+            positions.put(name, namePositions);
+        } else if (namePositions[0] == namePositions.length - 1) {
+            namePositions = Arrays.copyOf(namePositions, namePositions.length * 2);
+            positions.put(name, namePositions);
+        }
+        namePositions[++namePositions[0]] = position;
+    }
+}
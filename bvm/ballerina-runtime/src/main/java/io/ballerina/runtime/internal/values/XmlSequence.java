@@ -61,6 +61,10 @@ import static io.ballerina.runtime.internal.TypeChecker.isEqual;
 public final class XmlSequence extends XmlValue implements BXmlSequence {
 
     List<BXml> children;
+    // Index of the child elements by name, built when the elements of a readonly sequence are looked up by name a
+    // second time.
+    private XmlNameIndex elementIndex;
+    private boolean lookedUpByName;
 
     /**
      * Create an empty xml sequence.
@@ -229,6 +233,11 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
     public XmlValue elements(String qname) {
         List<BXml> elementsSeq = new ArrayList<>();
         String qnameStr = getQname(qname).toString();
+        XmlNameIndex index = getElementIndex();
+        if (index != null) {
+            index.findElements(elementsSeq, qnameStr);
+            return new XmlSequence(elementsSeq);
+        }
         for (BXml child : children) {
             if (child.getNodeType() == XmlNodeType.ELEMENT && child.getElementName().equals(qnameStr)) {
                 elementsSeq.add(child);
@@ -237,6 +246,23 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
         return new XmlSequence(elementsSeq);
     }
 
+    // Returns the index of the child elements, or null if the sequence is mutable or on the first lookup.
+    private XmlNameIndex getElementIndex() {
+        if (!this.type.isReadOnly()) {
+            return null;
+        }
+        XmlNameIndex index = elementIndex;
+        if (index == null) {
+            if (!lookedUpByName) {
+                lookedUpByName = true;
+                return null;
+            }
+            index = new XmlNameIndex(children, false);
+            elementIndex = index;
+        }
+        return index;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -260,7 +286,7 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
         }
 
         for (BXml elem : this.children) {
-            XmlSequence elements = (XmlSequence) elem.children().elements(qname);
+            XmlSequence elements = (XmlSequence) elem.children(qname);
             List<BXml> childrenList = elements.getChildrenList();
             if (childrenList.size() == 1) {
                 selected.add(childrenList.get(0));
@@ -411,7 +437,7 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
                 if (qnames.contains(name)) {
                     descendants.add(element);
                 }
-                addDescendants(descendants, element, qnames);
+                element.addDescendants(descendants, qnames);
             }
         }
 
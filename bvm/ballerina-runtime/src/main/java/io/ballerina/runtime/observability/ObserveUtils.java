@@ -28,12 +28,14 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.configurable.ConfigMap;
 import io.ballerina.runtime.internal.configurable.VariableKey;
 import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.observability.metrics.Tag;
 import io.ballerina.runtime.observability.tracer.BSpan;
 import io.opentelemetry.api.common.Attributes;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 
@@ -72,6 +74,11 @@ public class ObserveUtils {
     private static final boolean tracingEnabled;
     private static final BString tracingProvider;
 
+    // The generated code passes the same source positions and objects on every call from a call site, hence the tags
+    // derived from them are only created once.
+    private static final Map<PositionKey, Tag> positionTags = new ConcurrentHashMap<>();
+    private static final Map<ObjectType, String> objectNames = new ConcurrentHashMap<>();
+
     static {
         // TODO: Move config initialization to ballerina level once checking config key is possible at ballerina level
         Module observeModule = new Module(BALLERINA_BUILTIN_PKG_PREFIX, "observe", "1");
@@ -208,7 +215,7 @@ public class ObserveUtils {
         observerContext.addTag(TAG_KEY_SRC_OBJECT_NAME, serviceName.getValue());
 
         observerContext.addTag(TAG_KEY_SRC_MODULE, module.getValue());
-        observerContext.addTag(TAG_KEY_SRC_POSITION, generatePositionId(srcFileName, startLine, startColumn));
+        observerContext.addTag(getPositionTag(srcFileName, startLine, startColumn));
 
         if (observerContext.getEntrypointFunctionModule() != null) {
             observerContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_MODULE,
@@ -261,7 +268,7 @@ public class ObserveUtils {
         // Adding Position and Module ID to the Span
         Attributes eventAttributes = Attributes.builder()
                 .put(TAG_KEY_SRC_MODULE, pkg.getValue())
-                .put(TAG_KEY_SRC_POSITION, generatePositionId(srcFileName, startLine, startColumn))
+                .put(TAG_KEY_SRC_POSITION, getPositionTag(srcFileName, startLine, startColumn).getValue())
                 .build();
         span.addEvent(CHECKPOINT_EVENT_NAME, eventAttributes);
     }
@@ -379,9 +386,7 @@ public class ObserveUtils {
         }   // Else normal function
 
         if (typeDef != null) {
-            ObjectType type = (ObjectType) TypeUtils.getImpliedType(typeDef.getType());
-            Module typeModule = type.getPackage();
-            String objectName = typeModule.getOrg() + "/" + typeModule.getName() + "/" + type.getName();
+            String objectName = getObjectName((ObjectType) TypeUtils.getImpliedType(typeDef.getType()));
 
             newObContext.setOperationName(objectName + ":" + functionName.getValue());
             newObContext.addTag(TAG_KEY_SRC_OBJECT_NAME, objectName);
@@ -391,7 +396,7 @@ public class ObserveUtils {
 
         newObContext.addTag(TAG_KEY_SRC_FUNCTION_NAME, functionName.getValue());
         newObContext.addTag(TAG_KEY_SRC_MODULE, module.getValue());
-        newObContext.addTag(TAG_KEY_SRC_POSITION, generatePositionId(srcFileName, startLine, startColumn));
+        newObContext.addTag(getPositionTag(srcFileName, startLine, startColumn));
 
         if (newObContext.getEntrypointFunctionModule() != null) {
             newObContext.addTag(TAG_KEY_ENTRYPOINT_FUNCTION_MODULE, newObContext.getEntrypointFunctionModule());
@@ -466,6 +471,26 @@ public class ObserveUtils {
         env.setStrandLocal(KEY_OBSERVER_CONTEXT, observerContext);
     }
 
+    static Tag getPositionTag(BString srcFileName, long startLine, long startColumn) {
+        PositionKey key = new PositionKey(srcFileName, startLine, startColumn);
+        Tag positionTag = positionTags.get(key);
+        if (positionTag == null) {
+            positionTag = Tag.of(TAG_KEY_SRC_POSITION, generatePositionId(srcFileName, startLine, startColumn));
+            positionTags.put(key, positionTag);
+        }
+        return positionTag;
+    }
+
+    static String getObjectName(ObjectType type) {
+        String objectName = objectNames.get(type);
+        if (objectName == null) {
+            Module typeModule = type.getPackage();
+            objectName = typeModule.getOrg() + "/" + typeModule.getName() + "/" + type.getName();
+            objectNames.put(type, objectName);
+        }
+        return objectName;
+    }
+
     /**
      * Generate a ID for a source code position.
      *
@@ -477,4 +502,7 @@ public class ObserveUtils {
     private static String generatePositionId(BString srcFileName, long startLine, long startColumn) {
         return String.format("%s:%d:%d", srcFileName, startLine, startColumn);
     }
+
+    private record PositionKey(BString srcFileName, long startLine, long startColumn) {
+    }
 }
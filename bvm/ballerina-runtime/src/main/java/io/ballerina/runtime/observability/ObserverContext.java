@@ -93,6 +93,10 @@ public class ObserverContext {
         tags.put(key, tag);
     }
 
+    void addTag(Tag tag) {
+        tags.put(tag.getKey(), tag);
+    }
+
     public Tag getTag(String key) {
         return tags.get(key);
     }
@@ -22,9 +22,9 @@ import io.ballerina.runtime.observability.ObserverContext;
 
 import java.io.PrintStream;
 import java.time.Duration;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.STATUS_CODE_GROUP_SUFFIX;
@@ -40,7 +40,10 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private static final PrintStream consoleError = System.err;
 
-    private static final MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+    // Metrics are looked up by their tags once, instead of creating their IDs and looking them up in the registry on
+    // every observation. Cached metrics are looked up again once any metric is removed from the registry, as they may
+    // have been unregistered.
+    private static final int MAX_CACHED_TAG_SETS = 10000;
 
     private static final StatisticConfig[] responseTimeStatisticConfigs = new StatisticConfig[]{
             StatisticConfig.builder()
@@ -57,6 +60,18 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    private final MetricRegistry metricRegistry;
+    private final Map<Set<Tag>, InProgressGauge> inProgressGauges = new ConcurrentHashMap<>();
+    private final Map<Set<Tag>, ResponseMetrics> responseMetrics = new ConcurrentHashMap<>();
+
+    public BallerinaMetricsObserver() {
+        this(DefaultMetricRegistry.getInstance());
+    }
+
+    public BallerinaMetricsObserver(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
         startObservation(observerContext);
@@ -89,8 +104,16 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
         Set<Tag> tags = observerContext.getAllTags();
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            long removals = metricRegistry.getRemovalCount();
+            InProgressGauge cachedGauge = inProgressGauges.get(tags);
+            Gauge inProgressGauge;
+            if (cachedGauge != null && cachedGauge.removals() == removals) {
+                inProgressGauge = cachedGauge.gauge();
+            } else {
+                inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
+                        tags));
+                cache(inProgressGauges, tags, new InProgressGauge(inProgressGauge, removals));
+            }
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
@@ -104,12 +127,11 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> tags = new HashSet<>();
+        Set<Tag> tags = observerContext.getAllTags();
         Map<String, Tag> customTags = observerContext.customMetricTags;
         if (customTags != null) {
             tags.addAll(customTags.values());
         }
-        tags.addAll(observerContext.getAllTags());
 
         // Add status_code_group tag
         Integer statusCode = (Integer) observerContext.getProperty(PROPERTY_KEY_HTTP_STATUS_CODE);
@@ -121,20 +143,43 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
             ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+            long removals = metricRegistry.getRemovalCount();
+            ResponseMetrics metrics = responseMetrics.get(tags);
+            if (metrics == null || metrics.removals() != removals) {
+                metrics = new ResponseMetrics(
+                        metricRegistry.gauge(new MetricId("response_time_seconds",
+                                "Response time", tags), responseTimeStatisticConfigs),
+                        metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                                "Total response response time for all requests", tags)),
+                        metricRegistry.counter(new MetricId("requests_total",
+                                "Total number of requests", tags)),
+                        removals);
+                cache(responseMetrics, tags, metrics);
+            }
+            metrics.responseTime().setValue(duration / 1E9);
+            metrics.totalResponseTime().increment(duration);
+            metrics.requests().increment();
         } catch (RuntimeException e) {
             handleError("multiple metrics", tags, e);
         }
     }
 
+    private static <M> void cache(Map<Set<Tag>, M> cache, Set<Tag> tags, M metrics) {
+        if (cache.size() >= MAX_CACHED_TAG_SETS) {
+            cache.clear();
+        }
+        cache.put(tags, metrics);
+    }
+
     private void handleError(String metricName, Set<Tag> tags, RuntimeException e) {
         // Metric Provider may throw exceptions if there is a mismatch in tags.
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    private record InProgressGauge(Gauge gauge, long removals) {
+    }
+
+    private record ResponseMetrics(Gauge responseTime, Counter totalResponseTime, Counter requests, long removals) {
+    }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.json;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.values.FPValue;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tests for parsing JSON straight into record values.
+ *
+ * @since 2201.9.0
+ */
+public class JsonParserRecordTest {
+
+    private static final Module MODULE = new Module("testorg", "jsonrecords", "1");
+
+    private TestRecordTypes recordTypes;
+    private BRecordType personType;
+    private BRecordType closedPointType;
+    private BRecordType lineType;
+    private BRecordType readonlyPointType;
+
+    @BeforeClass
+    public void setup() {
+        recordTypes = new TestRecordTypes(MODULE);
+
+        Map<String, Field> personFields = new LinkedHashMap<>();
+        personFields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        personFields.put("age", TypeCreator.createField(PredefinedTypes.TYPE_INT, "age", 0));
+        personFields.put("email", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "email",
+                SymbolFlags.OPTIONAL));
+        personType = recordTypes.createRecordType("Person", 0, personFields, PredefinedTypes.TYPE_ANYDATA, false);
+        personType.setDefaultValue("age", new FPValue<>(strand -> 18L, null, null, false));
+
+        Map<String, Field> pointFields = new LinkedHashMap<>();
+        pointFields.put("x", TypeCreator.createField(PredefinedTypes.TYPE_INT, "x", SymbolFlags.REQUIRED));
+        pointFields.put("y", TypeCreator.createField(PredefinedTypes.TYPE_INT, "y", SymbolFlags.REQUIRED));
+        closedPointType = recordTypes.createRecordType("Point", 0, pointFields, null, true);
+        readonlyPointType = recordTypes.createRecordType("ReadonlyPoint", SymbolFlags.READONLY, pointFields, null, true);
+
+        Map<String, Field> lineFields = new LinkedHashMap<>();
+        lineFields.put("from", TypeCreator.createField(closedPointType, "from", SymbolFlags.REQUIRED));
+        lineFields.put("to", TypeCreator.createField(closedPointType, "to", SymbolFlags.REQUIRED));
+        lineType = recordTypes.createRecordType("Line", 0, lineFields, null, true);
+    }
+
+    @Test
+    public void testDefaultValuesOfMissingFields() {
+        BMap<BString, Object> person = parse("{\"name\": \"Anne\"}", personType);
+        Assert.assertEquals(person.get(fromString("name")).toString(), "Anne");
+        Assert.assertEquals(person.get(fromString("age")), 18L);
+        Assert.assertFalse(person.containsKey(fromString("email")));
+
+        // Provided fields are not overwritten by the default values.
+        person = parse("{\"age\": 30, \"name\": \"Bob\", \"email\": \"bob@example.com\"}", personType);
+        Assert.assertEquals(person.get(fromString("age")), 30L);
+        Assert.assertEquals(person.get(fromString("email")).toString(), "bob@example.com");
+    }
+
+    @Test
+    public void testRestFieldsOfOpenRecord() {
+        BMap<BString, Object> person = parse("{\"name\": \"Anne\", \"city\": \"Colombo\", \"tags\": [1, 2]}",
+                personType);
+        Assert.assertEquals(person.get(fromString("city")).toString(), "Colombo");
+        Assert.assertEquals(person.size(), 4);
+    }
+
+    @Test
+    public void testMissingRequiredField() {
+        BError error = Assert.expectThrows(BError.class, () -> parse("{\"age\": 30}", personType));
+        Assert.assertTrue(error.getMessage().contains("missing required field 'name'"), error.getMessage());
+    }
+
+    @Test
+    public void testClosedRecordRejectsExtraFields() {
+        BMap<BString, Object> point = parse("{\"x\": 1, \"y\": 2}", closedPointType);
+        Assert.assertEquals(point.get(fromString("x")), 1L);
+        Assert.assertEquals(point.get(fromString("y")), 2L);
+
+        BError error = Assert.expectThrows(BError.class, () -> parse("{\"x\": 1, \"y\": 2, \"z\": 3}",
+                closedPointType));
+        Assert.assertTrue(error.getMessage().contains("field 'z' cannot be added to the closed record"),
+                error.getMessage());
+    }
+
+    @Test
+    public void testNestedRecords() {
+        BMap<BString, Object> line = parse("{\"from\": {\"x\": 1, \"y\": 2}, \"to\": {\"y\": 4, \"x\": 3}}",
+                lineType);
+        BMap<?, ?> from = (BMap<?, ?>) line.get(fromString("from"));
+        BMap<?, ?> to = (BMap<?, ?>) line.get(fromString("to"));
+        Assert.assertSame(from.getType(), closedPointType);
+        Assert.assertEquals(from.get(fromString("y")), 2L);
+        Assert.assertEquals(to.get(fromString("x")), 3L);
+
+        // Fields of the enclosing record are tracked apart from the fields of the nested record.
+        BError error = Assert.expectThrows(BError.class, () -> parse("{\"from\": {\"x\": 1, \"y\": 2}}", lineType));
+        Assert.assertTrue(error.getMessage().contains("missing required field 'to'"), error.getMessage());
+        error = Assert.expectThrows(BError.class, () -> parse("{\"from\": {\"x\": 1}, \"to\": {\"x\": 3, \"y\": 4}}",
+                lineType));
+        Assert.assertTrue(error.getMessage().contains("missing required field 'y'"), error.getMessage());
+    }
+
+    @Test
+    public void testReadonlyRecord() {
+        BMap<BString, Object> point = parse("{\"x\": 1, \"y\": 2}", readonlyPointType);
+        Assert.assertTrue(point.isFrozen());
+        Assert.assertEquals(point.get(fromString("x")), 1L);
+    }
+
+    @Test
+    public void testFieldDecodersFollowFieldsOfType() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("a", TypeCreator.createField(PredefinedTypes.TYPE_INT, "a", SymbolFlags.REQUIRED));
+        BRecordType recordType = recordTypes.createRecordType("Mutable", 0, fields, null, true);
+        Assert.assertEquals(parse("{\"a\": 1}", recordType).get(fromString("a")), 1L);
+        Object decoders = recordType.getJsonFieldDecoders();
+        Assert.assertNotNull(decoders);
+        parse("{\"a\": 2}", recordType);
+        Assert.assertSame(recordType.getJsonFieldDecoders(), decoders);
+
+        // The fields of recursive record types are set once the type is created.
+        Map<String, Field> newFields = new LinkedHashMap<>(fields);
+        newFields.put("b", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "b", SymbolFlags.REQUIRED));
+        recordType.setFields(newFields);
+        BMap<BString, Object> value = parse("{\"a\": 1, \"b\": \"x\"}", recordType);
+        Assert.assertEquals(value.get(fromString("b")).toString(), "x");
+        Assert.assertNotSame(recordType.getJsonFieldDecoders(), decoders);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BMap<BString, Object> parse(String json, Type targetType) {
+        return (BMap<BString, Object>) JsonParser.parse(json, targetType);
+    }
+
+    private static BString fromString(String value) {
+        return StringUtils.fromString(value);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.json;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.ValueCreator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Record types of a test module, whose values can be created by the name of their type, as the JSON parser and
+ * iterating tables do, the same way as those of a compiled module.
+ *
+ * @since 2201.9.0
+ */
+class TestRecordTypes extends ValueCreator {
+
+    private final Module module;
+    private final Map<String, BRecordType> recordTypes = new HashMap<>();
+
+    TestRecordTypes(Module module) {
+        this.module = module;
+        ValueCreator.addValueCreator(module.getOrg(), module.getName(), module.getMajorVersion(), false, this);
+    }
+
+    BRecordType createRecordType(String name, long flags, Map<String, Field> fields, Type restFieldType,
+                                 boolean sealed) {
+        BRecordType recordType = (BRecordType) TypeCreator.createRecordType(name, module, flags, fields,
+                restFieldType, sealed, 0);
+        recordTypes.put(name, recordType);
+        return recordType;
+    }
+
+    @Override
+    public MapValue<BString, Object> createRecordValue(String recordTypeName) throws BError {
+        return new MapValueImpl<>(recordTypes.get(recordTypeName));
+    }
+
+    @Override
+    public BObject createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                     Map<String, Object> properties, Object[] args) throws BError {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public BError createErrorValue(String errorTypeName, BString message, BError cause, Object details)
+            throws BError {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Type getAnonType(int typeHash, String typeShape) throws BError {
+        throw new UnsupportedOperationException();
+    }
+}
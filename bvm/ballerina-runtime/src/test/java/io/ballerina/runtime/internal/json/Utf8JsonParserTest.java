@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.json;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.Utf8JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Tests that the UTF-8 JSON parser gives the same values and errors as the JSON parser.
+ *
+ * @since 2201.9.0
+ */
+public class Utf8JsonParserTest {
+
+    private static final String LONG_ASCII_NAME = "a".repeat(65);
+    private static final String LONG_NON_ASCII_NAME = "\u00e9".repeat(40);
+
+    @DataProvider
+    public static Object[][] documents() {
+        return new Object[][]{
+                // Structures and whitespace
+                {"{}"}, {"[]"}, {" \t\r\n{ \"a\" : [ 1 , { } , [ ] ] }\n"}, {"{\"a\": {\"b\": {\"c\": [[[null]]]}}}"},
+                {"[true, false, null, \"x\"]"}, {"{\"a\": 1, \"a\": 2}"}, {"{\"a\": 1, \"b\": 2, \"a\": 3, \"b\": 4}"},
+                {"[1, 2,]"}, {"{\"a\": 1,}"}, {"{\"a\" 1}"}, {"{a: 1}"}, {"{'a': 1}"}, {"['a']"}, {"[tru]"},
+                {"[nul]"}, {"[1}"}, {"{\"a\": 1]"}, {"[[[]]"},
+                // Escapes
+                {"\"a\\\"b\\\\c\\/d\\be\\ff\\ng\\rh\\ti\""}, {"\"\\u0041\\u00e9\\u4e2d\""}, {"\"\\uD83D\\uDE00\""},
+                {"\"\\ud83d\\ude00 and \\ud83d\""}, {"\"\\ude00\\ud83d\""}, {"\"\\u00\""}, {"\"\\u00g1\""},
+                {"\"\\x\""}, {"\"\\\""}, {"\"unterminated"}, {"\"h\u00e9llo \ud83d\ude00 \\n w\u00f6rld\""},
+                {"{\"\\u0061\": 1, \"a\": 2}"}, {"{\"k\\ney\": \"v\\u00e9\"}"},
+                // Numbers
+                {"0"}, {"-0"}, {"[-0, 0, -0.0, -0e0, -0.0e-0]"}, {"01"}, {"-01"}, {"00"}, {"[0, 01]"},
+                {"9223372036854775807"}, {"9223372036854775808"}, {"-9223372036854775808"},
+                {"-9223372036854775809"}, {"99999999999999999999999"}, {"[-92233720368547758080]"}, {"1e5"},
+                {"1E+5"}, {"1.5e-3"}, {"-12.50"}, {"[1e400, -1e-400]"}, {"1."}, {".5"}, {"1e"}, {"1e+"}, {"-"},
+                {"+1"}, {"[1.5x]"}, {"1.5 2"}, {"0x10"}, {"{\"a\": 1.0e2, \"b\": -3}"},
+                // Field names which are not cached
+                {"{\"" + LONG_ASCII_NAME + "\": 1, \"" + LONG_ASCII_NAME + "\": 2}"},
+                {"{\"" + LONG_NON_ASCII_NAME + "\": 1, \"" + LONG_NON_ASCII_NAME + "x\": 2}"},
+                {"[{\"\u00e9\": 1}, {\"\u00e9\": 2}, {\"" + LONG_NON_ASCII_NAME + "\": 3}]"},
+                // Byte order mark, trailing content and empty input
+                {"\ufeff{\"a\": 1}"}, {"{} x"}, {"1 2"}, {"[1]]"}, {"{}}"}, {"null null"}, {"\"a\"\"b\""},
+                {"[1] "}, {""}, {"   "}, {"\n"}
+        };
+    }
+
+    @Test(dataProvider = "documents")
+    public void testSameResultAsJsonParser(String document) {
+        byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+        Object expected;
+        try {
+            expected = JsonParser.parse(new InputStreamReader(new ByteArrayInputStream(bytes),
+                    StandardCharsets.UTF_8), PredefinedTypes.TYPE_JSON);
+        } catch (BError e) {
+            BError error = Assert.expectThrows(BError.class, () -> Utf8JsonParser.parse(bytes));
+            Assert.assertEquals(error.getMessage(), e.getMessage());
+            return;
+        }
+        assertSameValue(Utf8JsonParser.parse(bytes), expected);
+    }
+
+    @Test
+    public void testInputStreamIsParsedWhileReading() {
+        // The stream does not end, hence it can only be parsed as it is read, up to the error.
+        InputStream in = new InputStream() {
+
+            private final byte[] prefix = "[1, }".getBytes(StandardCharsets.UTF_8);
+            private int position;
+
+            @Override
+            public int read() throws IOException {
+                if (position < prefix.length) {
+                    return prefix[position++];
+                }
+                if (++position > 1 << 20) {
+                    throw new IOException("read past the error");
+                }
+                return ' ';
+            }
+        };
+        BError error = Assert.expectThrows(BError.class,
+                () -> JsonParser.parse(in, "UTF-8", PredefinedTypes.TYPE_JSON));
+        Assert.assertEquals(error.getMessage(), "unrecognized token '}' at line: 1 column: 8");
+    }
+
+    @Test
+    public void testParseFromBuffer() {
+        byte[] bytes = "xx[1, {\"a\": \"b\"}]yy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+        BArray array = (BArray) Utf8JsonParser.parse(buffer);
+        Assert.assertEquals(array.size(), 2);
+        Assert.assertEquals(buffer.position(), 0);
+
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).position(2).limit(bytes.length - 2);
+        assertSameValue(Utf8JsonParser.parse(directBuffer), array);
+        Assert.assertEquals(directBuffer.position(), 2);
+    }
+
+    @Test
+    public void testFieldNamesAreShared() {
+        BArray array = (BArray) Utf8JsonParser.parse("[{\"name\": 1}, {\"name\": 2}]".getBytes(
+                StandardCharsets.UTF_8));
+        BString first = ((BMap<BString, ?>) array.get(0)).getKeys()[0];
+        BString second = ((BMap<BString, ?>) array.get(1)).getKeys()[0];
+        Assert.assertSame(first, second);
+    }
+
+    /**
+     * Asserts that the given values are of the same classes and are equal, including the sign of floats, the scale
+     * of decimals and the order of fields.
+     */
+    private static void assertSameValue(Object actual, Object expected) {
+        if (expected == null) {
+            Assert.assertNull(actual);
+            return;
+        }
+        Assert.assertNotNull(actual);
+        Assert.assertEquals(actual.getClass(), expected.getClass());
+        if (expected instanceof BMap<?, ?> expectedMap) {
+            BMap<?, ?> actualMap = (BMap<?, ?>) actual;
+            Assert.assertEquals(actualMap.getType(), expectedMap.getType());
+            Assert.assertEquals(actualMap.size(), expectedMap.size());
+            Object[] actualKeys = actualMap.getKeys();
+            Object[] expectedKeys = expectedMap.getKeys();
+            for (int i = 0; i < expectedKeys.length; i++) {
+                Assert.assertEquals(actualKeys[i].toString(), expectedKeys[i].toString());
+            }
+            for (Map.Entry<?, ?> entry : expectedMap.entrySet()) {
+                assertSameValue(actualMap.get(entry.getKey()), entry.getValue());
+            }
+        } else if (expected instanceof BArray expectedArray) {
+            BArray actualArray = (BArray) actual;
+            Assert.assertEquals(actualArray.getType(), expectedArray.getType());
+            Assert.assertEquals(actualArray.size(), expectedArray.size());
+            for (int i = 0; i < expectedArray.size(); i++) {
+                assertSameValue(actualArray.get(i), expectedArray.get(i));
+            }
+        } else if (expected instanceof Double) {
+            Assert.assertEquals(Double.doubleToRawLongBits((Double) actual),
+                    Double.doubleToRawLongBits((Double) expected));
+        } else {
+            // Strings are compared by their values, and decimals by their values along with their scales.
+            Assert.assertEquals(actual.toString(), expected.toString());
+        }
+    }
+}
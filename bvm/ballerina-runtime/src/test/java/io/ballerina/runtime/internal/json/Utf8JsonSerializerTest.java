@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.json;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.Utf8JsonSerializer;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import io.ballerina.runtime.internal.values.TupleValueImpl;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests that the UTF-8 JSON serializer writes the same text as {@link StringUtils#getJsonString(Object)}.
+ *
+ * @since 2201.9.0
+ */
+public class Utf8JsonSerializerTest {
+
+    private static final Module MODULE = new Module("testorg", "jsonserializer", "1");
+    private static final String[] STRINGS = {
+            "", "plain", "a\"b", "back\\slash", "with/slash", "esc/aped\n", "\b\f\n\r\t", "only\fform feed",
+            "héllo wörld", "中文", "😀 smile", "lone \ud83d high", "lone \ude00 low",
+            "\ude00\ud83d", "end \ud83d", "\u0000\u001f\u007f"
+    };
+
+    private TestRecordTypes recordTypes;
+
+    @BeforeClass
+    public void setup() {
+        if (!StandardCharsets.UTF_8.equals(Charset.defaultCharset())) {
+            // The JSON string of a value is encoded in the default character set, which may not encode every string.
+            throw new SkipException("default character set is not UTF-8");
+        }
+        // Iterating a table creates the zero values of its row type.
+        recordTypes = new TestRecordTypes(MODULE);
+    }
+
+    @Test
+    public void testSimpleValues() {
+        for (String string : STRINGS) {
+            assertSameJson(StringUtils.fromString(string));
+        }
+        for (Object value : new Object[]{null, 0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 0.0, -0.0, 1.5e300,
+                Double.NaN, Double.NEGATIVE_INFINITY, true, false}) {
+            assertSameJson(value);
+        }
+    }
+
+    @Test
+    public void testDecimals() {
+        for (String decimal : new String[]{"0", "1.50", "-0.000001", "1E+3", "12345678901234567890.123456789",
+                "9.999999999999999999999999999999999E+6144", "1E-6143"}) {
+            DecimalValue value = new DecimalValue(decimal);
+            // A decimal on its own is written differently from a decimal member.
+            assertSameJson(value);
+            assertSameJson(createArray(value, value.negate()));
+            assertSameJson(createMap("d", value));
+        }
+    }
+
+    @Test
+    public void testMaps() {
+        MapValueImpl<BString, Object> map = createMap("int", 1L, "float", -0.0, "boolean", true, "nil", null,
+                "decimal", new DecimalValue("2.50"), "nested", createMap("array", createArray(1L, "x", null)));
+        for (String string : STRINGS) {
+            map.put(StringUtils.fromString(string), StringUtils.fromString(string));
+        }
+        assertSameJson(map);
+        assertSameJson(createMap());
+    }
+
+    @Test
+    public void testRecords() {
+        Type recordType = createRecordType("Person", PredefinedTypes.TYPE_ANYDATA, "name", "a\"ge", "é\ud83d");
+        MapValueImpl<BString, Object> person = new MapValueImpl<>(recordType);
+        person.put(StringUtils.fromString("name"), StringUtils.fromString("Anne\n"));
+        person.put(StringUtils.fromString("a\"ge"), 30L);
+        person.put(StringUtils.fromString("é\ud83d"), createArray(new DecimalValue("1.0")));
+        person.put(StringUtils.fromString("rest field"), createMap("x", 1L));
+        assertSameJson(person);
+        // The encoded field names are reused.
+        assertSameJson(createArray(person, person));
+    }
+
+    @Test
+    public void testArraysAndTuples() {
+        ArrayValueImpl ints = new ArrayValueImpl(new long[]{1, -2, Long.MIN_VALUE}, false);
+        ArrayValueImpl floats = new ArrayValueImpl(new double[]{1.0, -0.0, 2.5e-10}, false);
+        ArrayValueImpl bytes = new ArrayValueImpl(new byte[]{0, 1, (byte) 255}, false);
+        ArrayValueImpl booleans = new ArrayValueImpl(new boolean[]{true, false}, false);
+        ArrayValueImpl strings = new ArrayValueImpl(new BString[]{StringUtils.fromString("a\tb"),
+                StringUtils.fromString("😀")}, false);
+        TupleValueImpl tuple = new TupleValueImpl(new Object[]{1L, StringUtils.fromString("x"), ints},
+                TypeCreator.createTupleType(List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING,
+                        ints.getType())));
+        for (Object value : new Object[]{ints, floats, bytes, booleans, strings, tuple, createArray(),
+                createArray(createArray(), createMap(), createArray(createArray((Object) null)))}) {
+            assertSameJson(value);
+        }
+    }
+
+    @Test
+    public void testLargeValues() {
+        // Values which are larger than the buffer of the serializer, with multi byte characters across its ends.
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append(i % 3 == 0 ? "😀" : i % 3 == 1 ? "é" : "\"");
+        }
+        BString largeString = StringUtils.fromString(sb.toString());
+        assertSameJson(largeString);
+        ArrayValueImpl array = createArray();
+        for (int i = 0; i < 3000; i++) {
+            array.append(i % 2 == 0 ? (Object) Long.MIN_VALUE : largeString);
+        }
+        assertSameJson(array);
+    }
+
+    @Test
+    public void testMapConstrainedTables() {
+        // The json conversion of map constrained tables takes the keys of the rows for the rows, hence the rows are
+        // compared with an array of them instead.
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(TypeCreator.createTableType(
+                TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA), false));
+        assertSameJson(table, createArray());
+        MapValueImpl<BString, Object> firstRow = createMap("id", 1L, "name", "a\"b", "nil", null);
+        MapValueImpl<BString, Object> secondRow = createMap("id", 2L, "values", createArray(1L, createMap("x", null)));
+        table.add(firstRow);
+        table.add(secondRow);
+        assertSameJson(table, createArray(firstRow, secondRow));
+
+        TableValueImpl<Object, Object> keyedTable = new TableValueImpl<>(TypeCreator.createTableType(
+                TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA), new String[]{"id"}, false));
+        firstRow = createMap("id", 1L, "name", "x");
+        secondRow = createMap("id", 2L, "name", "😀");
+        keyedTable.put(firstRow);
+        keyedTable.put(secondRow);
+        assertSameJson(keyedTable, createArray(firstRow, secondRow));
+
+        // Cycles through the rows are found.
+        MapValueImpl<BString, Object> cyclicRow = createMap("id", 3L);
+        cyclicRow.put(StringUtils.fromString("table"), keyedTable);
+        keyedTable.put(cyclicRow);
+        BError error = Assert.expectThrows(BError.class,
+                () -> Utf8JsonSerializer.serialize(keyedTable, new ByteArrayOutputStream()));
+        Assert.assertEquals(error.getMessage(), "{ballerina/lang.value}CyclicValueReferenceError");
+    }
+
+    @Test
+    public void testRecordConstrainedTables() {
+        Type rowType = createRecordType("Row", PredefinedTypes.TYPE_ANYDATA, "id", "name");
+        TableValueImpl<Object, Object> table = new TableValueImpl<>(TypeCreator.createTableType(rowType, false));
+        MapValueImpl<BString, Object> row = createRecord(rowType, "id", 1L, "name", "a\"bé");
+        row.put(StringUtils.fromString("decimal"), new DecimalValue("1.50"));
+        row.put(StringUtils.fromString("float"), -0.0);
+        row.put(StringUtils.fromString("byte"), 7);
+        row.put(StringUtils.fromString("nested"), createMap("values", createArray(1L, null, "x"), "map",
+                createMap("x", 2L)));
+        table.add(row);
+        table.add(createRecord(rowType, "id", 2L, "name", "😀"));
+        assertSameJson(table);
+
+        // Rows whose members are converted differently by the table conversion are still written the same.
+        TableValueImpl<Object, Object> nilFieldTable = new TableValueImpl<>(TypeCreator.createTableType(rowType,
+                false));
+        nilFieldTable.add(createRecord(rowType, "id", 1L, "name", null));
+        assertSameJson(nilFieldTable);
+        TableValueImpl<Object, Object> recordMemberTable = new TableValueImpl<>(TypeCreator.createTableType(rowType,
+                false));
+        recordMemberTable.add(createRecord(rowType, "id", 1L, "name", "x", "others",
+                createArray(createRecord(rowType, "id", 2L, "name", "y"), 3L)));
+        assertSameJson(recordMemberTable);
+        TableValueImpl<Object, Object> mapMemberTable = new TableValueImpl<>(TypeCreator.createTableType(rowType,
+                false));
+        mapMemberTable.add(createRecord(rowType, "id", 1L, "name", "x", "maps", createArray(createMap("x", 1L))));
+        assertSameJson(mapMemberTable);
+        TableValueImpl<Object, Object> tableMemberTable = new TableValueImpl<>(TypeCreator.createTableType(rowType,
+                false));
+        tableMemberTable.add(createRecord(rowType, "id", 1L, "name", "x", "table", table));
+        assertSameJson(tableMemberTable);
+    }
+
+    @Test
+    public void testCycles() {
+        MapValueImpl<BString, Object> map = createMap("a", 1L);
+        map.put(StringUtils.fromString("self"), createArray(map));
+        assertSameJson(map);
+
+        ArrayValueImpl array = createArray(1L);
+        array.append(createMap("array", array));
+        assertSameJson(array);
+
+        // The same value more than once is not a cycle.
+        MapValueImpl<BString, Object> shared = createMap("x", 1L);
+        assertSameJson(createArray(shared, createMap("y", shared), shared));
+    }
+
+    @Test
+    public void testValuesWhichAreNotJson() {
+        BError error = ErrorCreator.createError(StringUtils.fromString("not json"));
+        Type memberType = TypeCreator.createUnionType(PredefinedTypes.TYPE_ANY, PredefinedTypes.TYPE_ERROR);
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(TypeCreator.createMapType(memberType));
+        map.put(StringUtils.fromString("a"), 1L);
+        map.put(StringUtils.fromString("error"), error);
+        ArrayValueImpl array = new ArrayValueImpl(TypeCreator.createArrayType(memberType));
+        array.append(1L);
+        array.append(error);
+        assertSameJson(error);
+        assertSameJson(map);
+        assertSameJson(array);
+    }
+
+    @Test
+    public void testByteBuffer() {
+        MapValueImpl<BString, Object> map = createMap("a", "é", "b", createArray(1L, 2L));
+        byte[] expected = StringUtils.getJsonString(map).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length + 2);
+        buffer.put((byte) 'x');
+        Utf8JsonSerializer.serialize(map, buffer);
+        Assert.assertEquals(buffer.position(), expected.length + 1);
+        byte[] actual = new byte[expected.length];
+        buffer.flip().position(1);
+        buffer.get(actual);
+        Assert.assertEquals(actual, expected);
+    }
+
+    private static void assertSameJson(Object value) {
+        assertSameJson(value, value);
+    }
+
+    private static void assertSameJson(Object value, Object expectedValue) {
+        String expected;
+        try {
+            expected = StringUtils.getJsonString(expectedValue);
+        } catch (BError e) {
+            BError error = Assert.expectThrows(BError.class,
+                    () -> Utf8JsonSerializer.serialize(value, new ByteArrayOutputStream()));
+            Assert.assertEquals(error.getMessage(), e.getMessage());
+            Assert.assertEquals(error.getDetails().toString(), e.getDetails().toString());
+            if (value instanceof MapValueImpl<?, ?> || value instanceof TableValueImpl<?, ?>) {
+                // Nothing is written by default if the value cannot be converted to json.
+                ByteArrayOutputStream defaultOut = new ByteArrayOutputStream();
+                error = Assert.expectThrows(BError.class, () -> ((BRefValue) value).serialize(defaultOut));
+                Assert.assertEquals(error.getMessage(), e.getMessage());
+                Assert.assertEquals(defaultOut.size(), 0);
+            }
+            return;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Utf8JsonSerializer.serialize(value, out);
+        Assert.assertEquals(out.toByteArray(), expected.getBytes(StandardCharsets.UTF_8), expected);
+
+        if (value instanceof MapValueImpl<?, ?> || value instanceof TableValueImpl<?, ?>) {
+            // Maps, records and tables are serialized this way by default.
+            ByteArrayOutputStream defaultOut = new ByteArrayOutputStream();
+            ((BRefValue) value).serialize(defaultOut);
+            Assert.assertEquals(defaultOut.toByteArray(), expected.getBytes(Charset.defaultCharset()), expected);
+        }
+    }
+
+    private static MapValueImpl<BString, Object> createMap(Object... entries) {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(TypeCreator.createMapType(
+                PredefinedTypes.TYPE_ANYDATA));
+        populate(map, entries);
+        return map;
+    }
+
+    private static MapValueImpl<BString, Object> createRecord(Type recordType, Object... entries) {
+        MapValueImpl<BString, Object> record = new MapValueImpl<>(recordType);
+        populate(record, entries);
+        return record;
+    }
+
+    private static void populate(MapValueImpl<BString, Object> map, Object... entries) {
+        for (int i = 0; i < entries.length; i += 2) {
+            Object value = entries[i + 1] instanceof String string ? StringUtils.fromString(string) : entries[i + 1];
+            map.put(StringUtils.fromString((String) entries[i]), value);
+        }
+    }
+
+    private static ArrayValueImpl createArray(Object... members) {
+        ArrayValueImpl array = new ArrayValueImpl(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+        for (Object member : members) {
+            array.append(member instanceof String string ? StringUtils.fromString(string) : member);
+        }
+        return array;
+    }
+
+    private Type createRecordType(String name, Type restFieldType, String... fieldNames) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (String fieldName : fieldNames) {
+            fields.put(fieldName, TypeCreator.createField(PredefinedTypes.TYPE_ANYDATA, fieldName,
+                    SymbolFlags.OPTIONAL));
+        }
+        return recordTypes.createRecordType(name, 0, fields, restFieldType, false);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the {@link RunQueue} implementations of the scheduler.
+ *
+ * @since 2201.9.0
+ */
+public class RunQueueTest {
+
+    @Test
+    public void testGlobalRunQueueIsFifo() throws InterruptedException {
+        RunQueue runQueue = new GlobalRunQueue();
+        ItemGroup first = new ItemGroup();
+        ItemGroup second = new ItemGroup();
+        Assert.assertTrue(runQueue.isEmpty());
+        runQueue.push(first);
+        runQueue.add(second);
+        Assert.assertFalse(runQueue.isEmpty());
+        Assert.assertSame(runQueue.take(), first);
+        Assert.assertSame(runQueue.take(), second);
+        Assert.assertTrue(runQueue.isEmpty());
+    }
+
+    @Test(timeOut = 10000)
+    public void testVirtualThreadRunQueueRunsGroupsOnNewThreads() throws Exception {
+        CompletableFuture<Thread> runnerThread = new CompletableFuture<>();
+        ItemGroup group = new ItemGroup();
+        RunQueue runQueue = new VirtualThreadRunQueue(Executors.defaultThreadFactory(), addedGroup -> {
+            Assert.assertSame(addedGroup, group);
+            runnerThread.complete(Thread.currentThread());
+        });
+        runQueue.push(group);
+        Assert.assertNotSame(runnerThread.get(5, TimeUnit.SECONDS), Thread.currentThread());
+        Assert.assertTrue(runQueue.isEmpty());
+        // Only the poison pills are queued for the thread which started the scheduler.
+        runQueue.add(ItemGroup.POISON_PILL);
+        Assert.assertSame(runQueue.take(), ItemGroup.POISON_PILL);
+    }
+
+    @Test
+    public void testVirtualThreadFactoryAvailability() {
+        Assert.assertEquals(VirtualThreadRunQueue.createVirtualThreadFactory() != null,
+                Runtime.version().feature() >= 21);
+    }
+
+    @Test
+    public void testWorkStealingPushFromWorkerIsLifo() {
+        WorkStealingRunQueue runQueue = new WorkStealingRunQueue(2);
+        ItemGroup initial = new ItemGroup();
+        ItemGroup first = new ItemGroup();
+        ItemGroup second = new ItemGroup();
+        runQueue.add(initial);
+        // The first take registers the current thread as a worker.
+        Assert.assertSame(runQueue.take(), initial);
+        runQueue.push(first);
+        runQueue.push(second);
+        Assert.assertFalse(runQueue.isEmpty());
+        Assert.assertSame(runQueue.take(), second);
+        Assert.assertSame(runQueue.take(), first);
+        Assert.assertTrue(runQueue.isEmpty());
+    }
+
+    @Test
+    public void testWorkStealingPushFromNonWorkerGoesToInjectionQueue() {
+        WorkStealingRunQueue runQueue = new WorkStealingRunQueue(2);
+        ItemGroup first = new ItemGroup();
+        ItemGroup second = new ItemGroup();
+        runQueue.push(first);
+        runQueue.push(second);
+        Assert.assertSame(runQueue.take(), first);
+        Assert.assertSame(runQueue.take(), second);
+    }
+
+    @Test(timeOut = 10000)
+    public void testWorkStealingIdleWorkerStealsOldestGroup() throws Exception {
+        WorkStealingRunQueue runQueue = new WorkStealingRunQueue(2);
+        ItemGroup oldest = new ItemGroup();
+        ItemGroup newest = new ItemGroup();
+        runQueue.add(new ItemGroup());
+        runQueue.take();
+        runQueue.push(oldest);
+        runQueue.push(newest);
+
+        CompletableFuture<ItemGroup> stolen = CompletableFuture.supplyAsync(runQueue::take);
+        Assert.assertSame(stolen.get(5, TimeUnit.SECONDS), oldest);
+        Assert.assertSame(runQueue.take(), newest);
+    }
+
+    @Test(timeOut = 10000)
+    public void testWorkStealingParkedWorkerIsUnparkedByAdd() throws Exception {
+        WorkStealingRunQueue runQueue = new WorkStealingRunQueue(2);
+        ItemGroup group = new ItemGroup();
+        CompletableFuture<ItemGroup> taken = CompletableFuture.supplyAsync(runQueue::take);
+        // Give the worker time to find the queue empty and park.
+        Thread.sleep(200);
+        Assert.assertFalse(taken.isDone());
+        runQueue.add(group);
+        Assert.assertSame(taken.get(5, TimeUnit.SECONDS), group);
+    }
+
+    @Test(timeOut = 10000)
+    public void testWorkStealingInjectionQueueIsNotStarved() {
+        WorkStealingRunQueue runQueue = new WorkStealingRunQueue(2);
+        ItemGroup injected = new ItemGroup();
+        runQueue.add(new ItemGroup());
+        runQueue.take();
+        runQueue.add(injected);
+        // A worker which keeps spawning local work still picks up the injected group.
+        for (int i = 0; i < 100; i++) {
+            runQueue.push(new ItemGroup());
+            if (runQueue.take() == injected) {
+                return;
+            }
+        }
+        Assert.fail("injected group was not taken");
+    }
+}
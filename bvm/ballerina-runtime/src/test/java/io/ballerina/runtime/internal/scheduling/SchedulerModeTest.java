@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for running strands with each of the scheduler modes.
+ *
+ * @since 2201.9.0
+ */
+public class SchedulerModeTest {
+
+    private static final int STRANDS = 200;
+    private static final int CHILD_STRANDS = 10;
+
+    @DataProvider(name = "schedulerModes")
+    public Object[][] schedulerModes() {
+        return new Object[][]{
+                {null},
+                {"work-stealing"},
+                // Falls back to the default scheduler on Java runtimes without virtual threads.
+                {"virtual-thread"}
+        };
+    }
+
+    @Test(dataProvider = "schedulerModes", timeOut = 60000)
+    public void testRunStrands(String schedulerMode) {
+        Scheduler scheduler = new Scheduler(4, false, schedulerMode);
+        AtomicInteger executed = new AtomicInteger();
+        for (int i = 0; i < STRANDS; i++) {
+            scheduler.schedule(new Object[1], params -> {
+                // Strands spawned from a strand are pushed from a scheduler thread.
+                for (int j = 0; j < CHILD_STRANDS; j++) {
+                    scheduler.schedule(new Object[1], childParams -> {
+                        executed.incrementAndGet();
+                        return null;
+                    }, Scheduler.getStrand(), null, "child", null);
+                }
+                executed.incrementAndGet();
+                return null;
+            }, null, null, "parent", null);
+        }
+        // Returns once all the strands are done, as the scheduler is not immortal.
+        scheduler.start();
+        Assert.assertEquals(executed.get(), STRANDS * (CHILD_STRANDS + 1));
+    }
+
+    @Test(timeOut = 60000)
+    public void testRunStrandsOnGroupThreads() {
+        // Runs the virtual-thread mode with platform threads, so that it is covered on any Java runtime.
+        Scheduler scheduler = new Scheduler(4, false, "virtual-thread", Executors::defaultThreadFactory);
+        AtomicInteger executed = new AtomicInteger();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < STRANDS; i++) {
+            scheduler.schedule(new Object[1], params -> {
+                threads.add(Thread.currentThread());
+                executed.incrementAndGet();
+                return null;
+            }, null, null, "strand", null);
+        }
+        scheduler.start();
+        Assert.assertEquals(executed.get(), STRANDS);
+        Assert.assertFalse(threads.contains(Thread.currentThread()));
+    }
+
+    @Test(dataProvider = "schedulerModes", timeOut = 60000)
+    public void testBlockedStrandDoesNotBlockOthers(String schedulerMode) {
+        Scheduler scheduler = new Scheduler(4, false, schedulerMode);
+        AtomicInteger executed = new AtomicInteger();
+        Object lock = new Object();
+        scheduler.schedule(new Object[1], params -> {
+            synchronized (lock) {
+                // Blocks a scheduler thread until all the other strands are done.
+                while (executed.get() < STRANDS) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return null;
+                    }
+                }
+            }
+            return null;
+        }, null, null, "blocking", null);
+        for (int i = 0; i < STRANDS; i++) {
+            scheduler.schedule(new Object[1], params -> {
+                executed.incrementAndGet();
+                synchronized (lock) {
+                    lock.notifyAll();
+                }
+                return null;
+            }, null, null, "worker", null);
+        }
+        scheduler.start();
+        Assert.assertEquals(executed.get(), STRANDS);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the caching of the results of type checks.
+ *
+ * @since 2201.9.0
+ */
+public class TypeCheckCacheTest {
+
+    private static final Module MODULE = new Module("testorg", "types", "1");
+
+    @Test
+    public void testCachedResults() {
+        BType source = (BType) createRecordType("S", "x", PredefinedTypes.TYPE_INT, SymbolFlags.REQUIRED);
+        // Distinct types with the same name must not share a result.
+        Type intTarget = createRecordType("R", "x", PredefinedTypes.TYPE_INT, SymbolFlags.REQUIRED);
+        Type stringTarget = createRecordType("R", "x", PredefinedTypes.TYPE_STRING, SymbolFlags.REQUIRED);
+
+        Assert.assertNull(source.getCachedTypeCheckResult(intTarget));
+        Assert.assertTrue(TypeChecker.checkIsType(source, intTarget));
+        Assert.assertFalse(TypeChecker.checkIsType(source, stringTarget));
+        Assert.assertEquals(source.getCachedTypeCheckResult(intTarget), Boolean.TRUE);
+        Assert.assertEquals(source.getCachedTypeCheckResult(stringTarget), Boolean.FALSE);
+
+        // Cache hits give the same results.
+        Assert.assertTrue(TypeChecker.checkIsType(source, intTarget));
+        Assert.assertFalse(TypeChecker.checkIsType(source, stringTarget));
+    }
+
+    @Test
+    public void testManyTargetTypes() {
+        BType source = (BType) PredefinedTypes.TYPE_INT;
+        List<Type> targets = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            targets.add(i % 2 == 0 ? TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_NULL) :
+                    TypeCreator.createUnionType(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_NULL));
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            Assert.assertEquals(TypeChecker.checkIsType(source, targets.get(i)), i % 2 == 0);
+        }
+
+        // The cache grows beyond its initial size, and once it is full, the cached results are kept rather than
+        // replaced by the results for later target types.
+        Assert.assertEquals(source.getCachedTypeCheckResult(targets.get(0)), Boolean.TRUE);
+        Assert.assertEquals(source.getCachedTypeCheckResult(targets.get(9)), Boolean.FALSE);
+        Assert.assertEquals(source.getCachedTypeCheckResult(targets.get(63)), Boolean.FALSE);
+        Assert.assertNull(source.getCachedTypeCheckResult(targets.get(64)));
+        for (int i = 0; i < targets.size(); i++) {
+            Assert.assertEquals(TypeChecker.checkIsType(source, targets.get(i)), i % 2 == 0);
+        }
+    }
+
+    @Test
+    public void testFieldsSetAfterCheck() {
+        BRecordType source = (BRecordType) createRecordType("S", "x", PredefinedTypes.TYPE_INT, SymbolFlags.REQUIRED);
+        BRecordType target = (BRecordType) createRecordType("T", "x", PredefinedTypes.TYPE_INT,
+                SymbolFlags.REQUIRED);
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+
+        // Setting the fields of either type invalidates the cached result.
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("x", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "x", SymbolFlags.REQUIRED));
+        target.setFields(fields);
+        Assert.assertNull(source.getCachedTypeCheckResult(target));
+        Assert.assertFalse(TypeChecker.checkIsType(source, target));
+        source.setFields(fields);
+        Assert.assertTrue(TypeChecker.checkIsType(source, target));
+
+        // So does setting the fields of a type the source type refers to.
+        BRecordType inner = (BRecordType) createRecordType("I", "y", PredefinedTypes.TYPE_INT, SymbolFlags.REQUIRED);
+        BRecordType outer = (BRecordType) createRecordType("O", "inner", inner, SymbolFlags.REQUIRED);
+        Type innerTarget = createRecordType("IT", "y", PredefinedTypes.TYPE_INT, SymbolFlags.REQUIRED);
+        Type outerTarget = createRecordType("OT", "inner", innerTarget, SymbolFlags.REQUIRED);
+        Assert.assertTrue(TypeChecker.checkIsType(outer, outerTarget));
+        Map<String, Field> innerFields = new LinkedHashMap<>();
+        innerFields.put("y", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "y", SymbolFlags.REQUIRED));
+        inner.setFields(innerFields);
+        Assert.assertFalse(TypeChecker.checkIsType(outer, outerTarget));
+    }
+
+    @Test
+    public void testRequiredNeverMemberSetAfterCheck() {
+        BRecordType record = (BRecordType) createRecordType("R", "x", PredefinedTypes.TYPE_INT, SymbolFlags.REQUIRED);
+        Assert.assertFalse(TypeChecker.checkIsType(record, PredefinedTypes.TYPE_INT));
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("x", TypeCreator.createField(PredefinedTypes.TYPE_NEVER, "x", SymbolFlags.REQUIRED));
+        record.setFields(fields);
+        Assert.assertNull(record.getCachedRequiredNeverMember());
+        Assert.assertTrue(TypeChecker.checkIsType(record, PredefinedTypes.TYPE_INT));
+    }
+
+    @Test
+    public void testRequiredNeverMembers() {
+        BType requiredNever = (BType) createRecordType("N", "x", PredefinedTypes.TYPE_NEVER, SymbolFlags.REQUIRED);
+        BType optionalNever = (BType) createRecordType("O", "x", PredefinedTypes.TYPE_NEVER, SymbolFlags.OPTIONAL);
+        BType neverTuple = (BType) TypeCreator.createTupleType(List.of(PredefinedTypes.TYPE_INT,
+                PredefinedTypes.TYPE_NEVER));
+        BType closedNeverArray = (BType) TypeCreator.createArrayType(PredefinedTypes.TYPE_NEVER, 2);
+        BType openNeverArray = (BType) TypeCreator.createArrayType(PredefinedTypes.TYPE_NEVER);
+
+        // Types with a required never member have no values, hence they are subtypes of every type.
+        Assert.assertTrue(TypeChecker.checkIsType(requiredNever, PredefinedTypes.TYPE_INT));
+        Assert.assertFalse(TypeChecker.checkIsType(optionalNever, PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(neverTuple, PredefinedTypes.TYPE_STRING));
+        Assert.assertTrue(TypeChecker.checkIsType(closedNeverArray, PredefinedTypes.TYPE_STRING));
+        Assert.assertFalse(TypeChecker.checkIsType(openNeverArray, PredefinedTypes.TYPE_STRING));
+
+        Assert.assertEquals(requiredNever.getCachedRequiredNeverMember(), Boolean.TRUE);
+        Assert.assertEquals(optionalNever.getCachedRequiredNeverMember(), Boolean.FALSE);
+        Assert.assertEquals(neverTuple.getCachedRequiredNeverMember(), Boolean.TRUE);
+        Assert.assertEquals(closedNeverArray.getCachedRequiredNeverMember(), Boolean.TRUE);
+        Assert.assertEquals(openNeverArray.getCachedRequiredNeverMember(), Boolean.FALSE);
+
+        // The cached results give the same answers.
+        Assert.assertTrue(TypeChecker.checkIsType(requiredNever, PredefinedTypes.TYPE_BOOLEAN));
+        Assert.assertFalse(TypeChecker.checkIsType(optionalNever, PredefinedTypes.TYPE_BOOLEAN));
+    }
+
+    @Test
+    public void testRecursiveTypeWithoutNeverMember() {
+        BRecordType recursive = (BRecordType) createRecordType("Node", "value", PredefinedTypes.TYPE_INT,
+                SymbolFlags.REQUIRED);
+        Map<String, Field> fields = new LinkedHashMap<>(recursive.getFields());
+        fields.put("next", TypeCreator.createField(recursive, "next", SymbolFlags.REQUIRED));
+        recursive.setFields(fields);
+
+        Assert.assertFalse(TypeChecker.checkIsType(recursive, PredefinedTypes.TYPE_INT));
+        Assert.assertEquals(recursive.getCachedRequiredNeverMember(), Boolean.FALSE);
+    }
+
+    private static RecordType createRecordType(String name, String fieldName, Type fieldType, long fieldFlags) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put(fieldName, TypeCreator.createField(fieldType, fieldName, fieldFlags));
+        return TypeCreator.createRecordType(name, MODULE, 0, fields, null, true, 0);
+    }
+}
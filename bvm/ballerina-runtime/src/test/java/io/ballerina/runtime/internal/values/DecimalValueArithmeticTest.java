@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BError;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Tests that adding, subtracting and multiplying decimals gives the same values and scales as BigDecimal arithmetic
+ * with {@link MathContext#DECIMAL128}, whether or not the unscaled values of the operands fit in a long.
+ *
+ * @since 2201.9.0
+ */
+public class DecimalValueArithmeticTest {
+
+    private static final BigDecimal DECIMAL_MAX =
+            new BigDecimal("9.999999999999999999999999999999999e6144", MathContext.DECIMAL128);
+    private static final BigDecimal DECIMAL_MIN =
+            new BigDecimal("-9.999999999999999999999999999999999e6144", MathContext.DECIMAL128);
+    private static final BigDecimal MIN_DECIMAL_MAGNITUDE =
+            new BigDecimal("1.000000000000000000000000000000000e-6143", MathContext.DECIMAL128);
+    private static final int[] SCALES = {0, 1, 2, 5, 18, 19, 20, 34, -1, -5, -19, -20, 3050, 3051, -3050, -3051,
+            6099, 6100, 6101, 6150, -6099, -6100, -6101, -6110};
+    private static final long LARGEST_COMPACT_VALUE = (1L << 62) - 1;
+
+    @DataProvider
+    public static Object[][] operands() {
+        return new Object[][]{
+                // Small decimals
+                {"1.25", "2.5"}, {"-1.25", "0.75"}, {"100", "0.001"}, {"1.10", "2.200"}, {"-3", "3"}, {"3.00", "3"},
+                // Negative scales
+                {"1E+5", "1E+3"}, {"1E+5", "7"}, {"-2E+18", "3E-18"}, {"5E+20", "5E+20"},
+                // Overflow of unscaled values in a long
+                {String.valueOf(LARGEST_COMPACT_VALUE), String.valueOf(LARGEST_COMPACT_VALUE)},
+                {String.valueOf(LARGEST_COMPACT_VALUE), String.valueOf(-LARGEST_COMPACT_VALUE)},
+                {String.valueOf(Long.MAX_VALUE), "1"}, {String.valueOf(Long.MIN_VALUE), "1"},
+                {"4611686018427387904", "-1"}, {"3037000499.97605", "3037000499.97605"},
+                {"92233720368547758.07", "0.01"}, {"1", "0.0000000000000000001"}, {"1", "1E-20"},
+                // Results which are rounded to 34 digits
+                {"1234567890123456789", "9876543210987654321"}, {"1E+30", "1E-30"},
+                {"0.1234567890123456789012345678901234", "1"},
+                // Scales around the limit of the arithmetic on unscaled values
+                {"1E-6100", "1"}, {"1E-6100", "1E-6100"}, {"1E-6101", "1"}, {"1E+6100", "1"}, {"1E+6101", "2E+6101"},
+                {"1E-3050", "1E-3050"}, {"1E-3050", "1E-3051"}, {"1E+3050", "1E+3050"}, {"1E+3050", "1E+3051"},
+                {"1E+6100", "1E+44"}, {"1E+6100", "1E+45"},
+                // Results out of the range of decimals
+                {"9.999999999999999999999999999999999E+6144", "9.999999999999999999999999999999999E+6144"},
+                {"-9.999999999999999999999999999999999E+6144", "1E+6144"}, {"1E+6144", "10"},
+                {"1E+3100", "1E+3100"},
+                // Results below the smallest magnitude of decimals
+                {"1E-6100", "1E-100"}, {"1.000000000000000000000000000000000E-6143", "0.1"},
+                {"1E-3100", "-1E-3100"}
+        };
+    }
+
+    @Test(dataProvider = "operands")
+    public void testSameResultAsBigDecimal(String lhs, String rhs) {
+        DecimalValue x = new DecimalValue(new BigDecimal(lhs));
+        DecimalValue y = new DecimalValue(new BigDecimal(rhs));
+        assertSameResults(x, y);
+        assertSameResults(y, x);
+        assertSameResults(x.negate(), y);
+    }
+
+    @Test
+    public void testRandomOperands() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            DecimalValue x = randomDecimal(random);
+            DecimalValue y = randomDecimal(random);
+            if (x.booleanValue() && y.booleanValue()) {
+                assertSameResults(x, y);
+            }
+        }
+    }
+
+    @Test
+    public void testResultsAsOperands() {
+        // Results of the arithmetic on unscaled values are used as operands in turn.
+        DecimalValue sum = new DecimalValue(new BigDecimal("0.01"));
+        BigDecimal expected = new BigDecimal("0.01");
+        DecimalValue step = new DecimalValue(new BigDecimal("1.37"));
+        for (int i = 0; i < 100; i++) {
+            sum = sum.add(step).multiply(step).subtract(step);
+            expected = expected.add(step.decimalValue(), MathContext.DECIMAL128)
+                    .multiply(step.decimalValue(), MathContext.DECIMAL128)
+                    .subtract(step.decimalValue(), MathContext.DECIMAL128);
+            assertSameValue(sum, expected);
+        }
+    }
+
+    private static DecimalValue randomDecimal(Random random) {
+        int bits = switch (random.nextInt(4)) {
+            case 0 -> 1 + random.nextInt(20);
+            case 1 -> 60 + random.nextInt(6);
+            case 2 -> 1 + random.nextInt(63);
+            default -> 1 + random.nextInt(113);
+        };
+        BigInteger unscaledValue = new BigInteger(bits, random);
+        if (random.nextBoolean()) {
+            unscaledValue = unscaledValue.negate();
+        }
+        int scale = random.nextBoolean() ? SCALES[random.nextInt(SCALES.length)] : random.nextInt(41) - 20;
+        BigDecimal value = new BigDecimal(unscaledValue, scale).round(MathContext.DECIMAL128);
+        try {
+            return new DecimalValue(value);
+        } catch (BError e) {
+            return new DecimalValue(BigDecimal.ONE);
+        }
+    }
+
+    private static void assertSameResults(DecimalValue x, DecimalValue y) {
+        BigDecimal lhs = x.decimalValue();
+        BigDecimal rhs = y.decimalValue();
+        assertSameResult(x, y, "+", () -> x.add(y), lhs.add(rhs, MathContext.DECIMAL128));
+        assertSameResult(x, y, "-", () -> x.subtract(y), lhs.subtract(rhs, MathContext.DECIMAL128));
+        assertSameResult(x, y, "*", () -> x.multiply(y), lhs.multiply(rhs, MathContext.DECIMAL128));
+    }
+
+    private static void assertSameResult(DecimalValue x, DecimalValue y, String operator, Operation operation,
+                                         BigDecimal expected) {
+        String message = x.decimalValue() + " " + operator + " " + y.decimalValue();
+        if (expected.compareTo(DECIMAL_MAX) > 0 || expected.compareTo(DECIMAL_MIN) < 0) {
+            BError error = Assert.expectThrows(BError.class, operation::apply);
+            Assert.assertTrue(error.getMessage().toLowerCase(Locale.ROOT).contains("overflow"),
+                    message + ": " + error.getMessage());
+            return;
+        }
+        if (expected.signum() != 0 && expected.abs().compareTo(MIN_DECIMAL_MAGNITUDE) < 0) {
+            expected = BigDecimal.ZERO;
+        }
+        DecimalValue result = operation.apply();
+        Assert.assertEquals(result.decimalValue(), expected, message);
+        Assert.assertEquals(result.booleanValue(), expected.signum() != 0, message);
+    }
+
+    private static void assertSameValue(DecimalValue actual, BigDecimal expected) {
+        Assert.assertEquals(actual.decimalValue(), expected);
+        Assert.assertEquals(actual.decimalValue().scale(), expected.scale());
+    }
+
+    private interface Operation {
+
+        DecimalValue apply();
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the row store of tables and the iterator of tables over it.
+ *
+ * @since 2201.9.0
+ */
+public class TableRowStoreTest {
+
+    @Test
+    public void testPositionOfRemovedLastRowIsNotReused() {
+        TableRowStore rows = new TableRowStore(true);
+        for (long key = 0; key < 3; key++) {
+            rows.add(key, "row" + key);
+        }
+        Assert.assertEquals(rows.remove(2L), "row2");
+        rows.add(3L, "row3");
+
+        Assert.assertEquals(rows.getRowCount(), 4);
+        Assert.assertEquals(rows.size(), 3);
+        Assert.assertTrue(rows.isRemoved(2));
+        Assert.assertEquals(rows.find(3L), 3);
+        Assert.assertTrue(rows.getRowId(3) > rows.getRowId(2));
+    }
+
+    @Test
+    public void testCollidingKeys() {
+        TableRowStore rows = new TableRowStore(true);
+        int count = 100;
+        for (int i = 0; i < count; i++) {
+            rows.add(collidingKey(i), i);
+        }
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(rows.find(collidingKey(i)), i);
+        }
+        Assert.assertEquals(rows.find(collidingKey(count)), -1);
+
+        // Every other key leaves a removed slot behind, which lookups of the keys after it have to probe past.
+        for (int i = 0; i < count; i += 2) {
+            Assert.assertEquals(rows.remove(collidingKey(i)), i);
+        }
+        Assert.assertNull(rows.remove(collidingKey(0)));
+        Assert.assertNull(rows.remove(collidingKey(count)));
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(rows.find(collidingKey(i)) >= 0, i % 2 == 1);
+        }
+
+        // Re-adding the removed keys makes them reachable again, after the rows that are still there.
+        for (int i = 0; i < count; i += 2) {
+            rows.add(collidingKey(i), -i);
+        }
+        Assert.assertEquals(rows.size(), count);
+        for (int i = 0; i < count; i++) {
+            int position = rows.find(collidingKey(i));
+            Assert.assertEquals(rows.getValue(position), i % 2 == 0 ? -i : i);
+        }
+    }
+
+    @Test
+    public void testIndexRebuild() {
+        TableRowStore rows = new TableRowStore(true);
+        // Rows are added and removed over and over, so the removed slots fill up the index and it is rebuilt both
+        // with and without growing it.
+        long nextKey = 0;
+        List<Long> liveKeys = new ArrayList<>();
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 50; i++) {
+                rows.add(nextKey, nextKey);
+                liveKeys.add(nextKey++);
+            }
+            for (int i = 0; i < 40; i++) {
+                Long key = liveKeys.remove(i % liveKeys.size());
+                Assert.assertEquals(rows.remove(key), key);
+            }
+        }
+
+        Assert.assertEquals(rows.size(), liveKeys.size());
+        for (Long key : liveKeys) {
+            Assert.assertEquals(rows.getValue(rows.find(key)), key);
+        }
+        Assert.assertEquals(rows.find(nextKey), -1);
+        Assert.assertEquals(getValues(rows), liveKeys.stream().sorted().toList());
+    }
+
+    @Test
+    public void testCompaction() {
+        TableRowStore rows = new TableRowStore(true);
+        for (long key = 0; key < 32; key++) {
+            rows.add(key, key);
+        }
+        for (long key = 0; key < 20; key++) {
+            rows.remove(key);
+        }
+        int compactions = rows.getCompactions();
+
+        // The arrays are full, and most of the positions are of removed rows, so they are dropped instead.
+        rows.add(32L, 32L);
+
+        Assert.assertNotEquals(rows.getCompactions(), compactions);
+        Assert.assertEquals(rows.getRowCount(), 13);
+        Assert.assertEquals(rows.size(), 13);
+        List<Long> expected = new ArrayList<>();
+        for (long key = 20; key <= 32; key++) {
+            expected.add(key);
+            Assert.assertEquals(rows.find(key), (int) key - 20);
+        }
+        Assert.assertEquals(getValues(rows), expected);
+        for (int position = 1; position < rows.getRowCount(); position++) {
+            Assert.assertTrue(rows.getRowId(position) > rows.getRowId(position - 1));
+        }
+    }
+
+    @Test
+    public void testIteratorContinuesWithRowAddedAfterRemovingLastRow() {
+        TableValueImpl<Object, Object> table = createTable();
+        for (long id = 0; id < 3; id++) {
+            table.put(createRow(id));
+        }
+        IteratorValue iterator = table.getIterator();
+        for (int i = 0; i < 3; i++) {
+            iterator.next();
+        }
+        table.remove(2L);
+        table.put(createRow(3));
+
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(((BArray) iterator.next()).get(0), 3L);
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testIteratorContinuesAfterCompaction() {
+        TableValueImpl<Object, Object> table = createTable();
+        for (long id = 0; id < 32; id++) {
+            table.put(createRow(id));
+        }
+        IteratorValue iterator = table.getIterator();
+        for (int i = 0; i < 20; i++) {
+            iterator.next();
+        }
+        for (long id = 0; id < 20; id++) {
+            table.remove(id);
+        }
+        table.put(createRow(100));
+
+        Assert.assertEquals(getKeys(iterator), List.of(20L, 21L, 22L, 23L, 24L, 25L, 26L, 27L, 28L, 29L, 30L, 31L,
+                100L));
+    }
+
+    @Test
+    public void testIteratorContinuesAfterCompactionWhenReturnedRowsAreRemoved() {
+        TableValueImpl<Object, Object> table = createTable();
+        for (long id = 0; id < 32; id++) {
+            table.put(createRow(id));
+        }
+        IteratorValue iterator = table.getIterator();
+        for (int i = 0; i < 25; i++) {
+            iterator.next();
+        }
+        // The row returned last and the one after it are removed along with the earlier ones.
+        for (long id = 0; id < 26; id++) {
+            table.remove(id);
+        }
+        table.put(createRow(100));
+        table.put(createRow(101));
+
+        Assert.assertEquals(getKeys(iterator), List.of(26L, 27L, 28L, 29L, 30L, 31L, 100L, 101L));
+    }
+
+    @Test
+    public void testIteratorAfterClear() {
+        TableValueImpl<Object, Object> table = createTable();
+        for (long id = 0; id < 4; id++) {
+            table.put(createRow(id));
+        }
+        IteratorValue iterator = table.getIterator();
+        iterator.next();
+        iterator.next();
+        table.clear();
+        table.put(createRow(10));
+
+        Assert.assertEquals(getKeys(iterator), List.of(10L));
+    }
+
+    private static long collidingKey(int i) {
+        // Both halves of the key are the same, hence all of these keys have the same hash.
+        return ((long) i << 32) | i;
+    }
+
+    private static List<Object> getValues(TableRowStore rows) {
+        List<Object> values = new ArrayList<>();
+        for (int position = 0; position < rows.getRowCount(); position++) {
+            if (!rows.isRemoved(position)) {
+                values.add(rows.getValue(position));
+            }
+        }
+        return values;
+    }
+
+    private static List<Object> getKeys(IteratorValue iterator) {
+        List<Object> keys = new ArrayList<>();
+        while (iterator.hasNext()) {
+            keys.add(((BArray) iterator.next()).get(0));
+        }
+        return keys;
+    }
+
+    private static TableValueImpl<Object, Object> createTable() {
+        return new TableValueImpl<>(TypeCreator.createTableType(TypeCreator.createMapType(PredefinedTypes.TYPE_INT),
+                new String[]{"id"}, false));
+    }
+
+    private static MapValueImpl<Object, Object> createRow(long id) {
+        MapValueImpl<Object, Object> row = new MapValueImpl<>(TypeCreator.createMapType(PredefinedTypes.TYPE_INT));
+        row.put(StringUtils.fromString("id"), id);
+        return row;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.types.XmlNodeType;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Tests that looking up xml elements by name gives the same elements as walking the elements, whether or not the
+ * elements are indexed.
+ *
+ * @since 2201.9.0
+ */
+public class XmlNameIndexTest {
+
+    private static final QName[] NAMES = {new QName("a"), new QName("b"), new QName("c"),
+            new QName("urn:x", "a"), new QName("urn:x", "d")};
+
+    @Test
+    public void testReadonlyLookups() {
+        Random random = new Random(7);
+        for (int i = 0; i < 50; i++) {
+            XmlItem root = createElement(random, 5);
+            root.freezeDirect();
+            List<XmlItem> elements = new ArrayList<>();
+            collectElements(root, elements);
+            for (int j = 0; j < 200; j++) {
+                assertSameLookups(elements.get(random.nextInt(elements.size())), random);
+            }
+        }
+    }
+
+    @Test
+    public void testMutableLookups() {
+        // Lookups are interleaved with changes to the tree, which are seen by the following lookups.
+        Random random = new Random(11);
+        for (int i = 0; i < 50; i++) {
+            XmlItem root = createElement(random, 5);
+            for (int j = 0; j < 200; j++) {
+                List<XmlItem> elements = new ArrayList<>();
+                collectElements(root, elements);
+                XmlItem element = elements.get(random.nextInt(elements.size()));
+                switch (random.nextInt(4)) {
+                    case 0 -> element.setQName(NAMES[random.nextInt(NAMES.length)]);
+                    case 1 -> element.setChildren(createChildren(random, 2));
+                    case 2 -> element.removeChildren(NAMES[random.nextInt(NAMES.length)].toString());
+                    default -> {
+                    }
+                }
+                assertSameLookups(elements.get(random.nextInt(elements.size())), random);
+                assertSameLookups(root, random);
+            }
+        }
+    }
+
+    @Test
+    public void testElementAndDescendantWithSameName() {
+        XmlItem inner = new XmlItem(new QName("a"));
+        XmlItem outer = new XmlItem(new QName("a"), new XmlSequence(inner));
+        outer.freezeDirect();
+        for (int i = 0; i < 3; i++) {
+            List<BXml> descendants = ((XmlSequence) outer.descendants(List.of("a"))).getChildrenList();
+            Assert.assertEquals(descendants.size(), 2);
+            Assert.assertSame(descendants.get(0), outer);
+            Assert.assertSame(descendants.get(1), inner);
+        }
+    }
+
+    @Test
+    public void testReadonlyElementCannotBeRenamed() {
+        XmlItem element = new XmlItem(new QName("a"), new XmlSequence(new XmlItem(new QName("b"))));
+        element.freezeDirect();
+        Assert.assertThrows(BError.class, () -> element.setQName(new QName("c")));
+        Assert.assertThrows(BError.class, () -> ((XmlItem) element.getChildrenSeq().getChildrenList().get(0))
+                .setQName(new QName("c")));
+        Assert.assertEquals(element.getElementName(), "a");
+    }
+
+    private static void assertSameLookups(XmlItem element, Random random) {
+        // Each lookup is made twice, as the index is built on the second lookup.
+        for (int i = 0; i < 2; i++) {
+            List<String> names = randomNames(random);
+            assertSameElements(element.descendants(names), expectedDescendants(element, names));
+
+            String name = NAMES[random.nextInt(NAMES.length)].toString();
+            XmlSequence children = (XmlSequence) element.getChildrenSeq();
+            List<BXml> expectedElements = new ArrayList<>();
+            for (BXml child : children.getChildrenList()) {
+                if (child.getNodeType() == XmlNodeType.ELEMENT && child.getElementName().equals(name)) {
+                    expectedElements.add(child);
+                }
+            }
+            assertSameElements(children.elements(name), expectedElements);
+        }
+    }
+
+    private static List<String> randomNames(Random random) {
+        List<String> names = new ArrayList<>();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            names.add(NAMES[random.nextInt(NAMES.length)].toString());
+        }
+        return names;
+    }
+
+    private static List<BXml> expectedDescendants(XmlItem element, List<String> names) {
+        List<BXml> descendants = new ArrayList<>();
+        if (names.contains(element.getElementName())) {
+            descendants.add(element);
+        }
+        addExpectedDescendants(element, names, descendants);
+        return descendants;
+    }
+
+    private static void addExpectedDescendants(XmlItem element, List<String> names, List<BXml> descendants) {
+        for (BXml child : element.getChildrenSeq().getChildrenList()) {
+            if (child.getNodeType() == XmlNodeType.ELEMENT) {
+                if (names.contains(child.getElementName())) {
+                    descendants.add(child);
+                }
+                addExpectedDescendants((XmlItem) child, names, descendants);
+            }
+        }
+    }
+
+    private static void assertSameElements(BXml actual, List<BXml> expected) {
+        List<BXml> actualElements = ((XmlSequence) actual).getChildrenList();
+        Assert.assertEquals(actualElements.size(), expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertSame(actualElements.get(i), expected.get(i));
+        }
+    }
+
+    private static void collectElements(XmlItem element, List<XmlItem> elements) {
+        elements.add(element);
+        for (BXml child : element.getChildrenSeq().getChildrenList()) {
+            if (child.getNodeType() == XmlNodeType.ELEMENT) {
+                collectElements((XmlItem) child, elements);
+            }
+        }
+    }
+
+    private static XmlItem createElement(Random random, int depth) {
+        return new XmlItem(NAMES[random.nextInt(NAMES.length)], createChildren(random, depth - 1));
+    }
+
+    private static XmlSequence createChildren(Random random, int depth) {
+        List<BXml> children = new ArrayList<>();
+        int count = depth <= 0 ? 0 : random.nextInt(5);
+        for (int i = 0; i < count; i++) {
+            children.add(random.nextInt(4) == 0 ? new XmlText("text") : createElement(random, depth));
+        }
+        return new XmlSequence(children);
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.observability;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.observability.metrics.AbstractMetric;
+import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_HTTP_STATUS_CODE_GROUP;
+import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_SRC_POSITION;
+
+/**
+ * Tests that the tags and metrics of observations are the same whether or not they are cached, and that metrics
+ * which were unregistered are not updated by later observations.
+ *
+ * @since 2201.9.0
+ */
+public class ObservationCachesTest {
+
+    private static final Set<Tag> TAGS = Set.of(Tag.of("src.module", "test/mod:1.0.0"), Tag.of("src.function.name",
+            "foo"));
+    private static final Set<Tag> STOP_TAGS = Set.of(Tag.of("src.module", "test/mod:1.0.0"),
+            Tag.of("src.function.name", "foo"), Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, "2xx"));
+
+    @Test
+    public void testPositionTags() {
+        for (int i = 0; i < 3; i++) {
+            Tag tag = ObserveUtils.getPositionTag(StringUtils.fromString("main.bal"), 10, 5);
+            Assert.assertEquals(tag, Tag.of(TAG_KEY_SRC_POSITION, "main.bal:10:5"));
+            Assert.assertEquals(ObserveUtils.getPositionTag(StringUtils.fromString("main.bal"), 10, 6),
+                    Tag.of(TAG_KEY_SRC_POSITION, "main.bal:10:6"));
+            Assert.assertEquals(ObserveUtils.getPositionTag(StringUtils.fromString("util.bal"), 10, 5),
+                    Tag.of(TAG_KEY_SRC_POSITION, "util.bal:10:5"));
+        }
+    }
+
+    @Test
+    public void testObjectNames() {
+        ObjectType client = TypeCreator.createObjectType("Client", new Module("test", "mod", "1"), 0);
+        ObjectType listener = TypeCreator.createObjectType("Listener", new Module("test", "other", "1"), 0);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(ObserveUtils.getObjectName(client), "test/mod/Client");
+            Assert.assertEquals(ObserveUtils.getObjectName(listener), "test/other/Listener");
+        }
+    }
+
+    @Test
+    public void testMetricValues() {
+        MetricRegistry registry = new MetricRegistry(new TestMetricProvider());
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(registry);
+        for (int i = 0; i < 3; i++) {
+            ObserverContext observerContext = startObservation(observer);
+            Assert.assertEquals(inProgressRequests(registry).getValue(), 1D);
+            stopObservation(observer, observerContext);
+        }
+
+        Assert.assertEquals(inProgressRequests(registry).getValue(), 0D);
+        Assert.assertEquals(requests(registry).getValue(), 3L);
+        Assert.assertEquals(responseTime(registry).getCount(), 3L);
+        Assert.assertTrue(totalResponseTime(registry).getValue() > 0);
+        // The tags added on stopping the observation are only on the response metrics.
+        Assert.assertEquals(registry.getAllMetrics().length, 4);
+    }
+
+    @Test
+    public void testUnregisteredMetrics() {
+        MetricRegistry registry = new MetricRegistry(new TestMetricProvider());
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(registry);
+        stopObservation(observer, startObservation(observer));
+        Counter requests = requests(registry);
+        Gauge inProgressRequests = inProgressRequests(registry);
+        Assert.assertEquals(requests.getValue(), 1L);
+
+        registry.unregister(requests);
+        registry.unregister(inProgressRequests);
+        ObserverContext observerContext = startObservation(observer);
+        Assert.assertEquals(inProgressRequests.getValue(), 0D);
+        Assert.assertEquals(inProgressRequests(registry).getValue(), 1D);
+        stopObservation(observer, observerContext);
+
+        // The observation after the metrics are unregistered updates newly registered metrics.
+        Assert.assertNotSame(requests(registry), requests);
+        Assert.assertEquals(requests(registry).getValue(), 1L);
+        Assert.assertEquals(requests.getValue(), 1L);
+        Assert.assertEquals(inProgressRequests(registry).getValue(), 0D);
+        Assert.assertEquals(responseTime(registry).getCount(), 2L);
+
+        registry.remove("response_time_seconds");
+        stopObservation(observer, startObservation(observer));
+        Assert.assertEquals(responseTime(registry).getCount(), 1L);
+        Assert.assertEquals(requests(registry).getValue(), 2L);
+    }
+
+    private static ObserverContext startObservation(BallerinaMetricsObserver observer) {
+        ObserverContext observerContext = new ObserverContext();
+        for (Tag tag : TAGS) {
+            observerContext.addTag(tag);
+        }
+        observer.startClientObservation(observerContext);
+        observerContext.setStarted();
+        return observerContext;
+    }
+
+    private static void stopObservation(BallerinaMetricsObserver observer, ObserverContext observerContext) {
+        observerContext.addProperty(PROPERTY_KEY_HTTP_STATUS_CODE, 200);
+        observer.stopClientObservation(observerContext);
+    }
+
+    private static Gauge inProgressRequests(MetricRegistry registry) {
+        return (Gauge) registry.lookup(new MetricId("inprogress_requests", "In-progress requests", TAGS));
+    }
+
+    private static Gauge responseTime(MetricRegistry registry) {
+        return (Gauge) registry.lookup(new MetricId("response_time_seconds", "Response time", STOP_TAGS));
+    }
+
+    private static Counter totalResponseTime(MetricRegistry registry) {
+        return (Counter) registry.lookup(new MetricId("response_time_nanoseconds_total",
+                "Total response response time for all requests", STOP_TAGS));
+    }
+
+    private static Counter requests(MetricRegistry registry) {
+        return (Counter) registry.lookup(new MetricId("requests_total", "Total number of requests", STOP_TAGS));
+    }
+
+    private static class TestMetricProvider implements MetricProvider {
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public void init() {
+            // Do nothing
+        }
+
+        @Override
+        public Counter newCounter(MetricId metricId) {
+            return new TestCounter(metricId);
+        }
+
+        @Override
+        public Gauge newGauge(MetricId metricId, StatisticConfig... statisticConfigs) {
+            return new TestGauge(metricId, statisticConfigs);
+        }
+
+        @Override
+        public <T> PolledGauge newPolledGauge(MetricId metricId, T obj, ToDoubleFunction<T> toDoubleFunction) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class TestCounter extends AbstractMetric implements Counter {
+
+        private long value;
+
+        private TestCounter(MetricId metricId) {
+            super(metricId);
+        }
+
+        @Override
+        public void reset() {
+            value = 0;
+        }
+
+        @Override
+        public void increment(long amount) {
+            value += amount;
+        }
+
+        @Override
+        public long getValue() {
+            return value;
+        }
+
+        @Override
+        public long getValueThenReset() {
+            long currentValue = value;
+            value = 0;
+            return currentValue;
+        }
+    }
+
+    private static class TestGauge extends AbstractMetric implements Gauge {
+
+        private final StatisticConfig[] statisticConfigs;
+        private double value;
+        private long count;
+        private double sum;
+
+        private TestGauge(MetricId metricId, StatisticConfig[] statisticConfigs) {
+            super(metricId);
+            this.statisticConfigs = statisticConfigs;
+        }
+
+        @Override
+        public void increment(double amount) {
+            setValue(value + amount);
+        }
+
+        @Override
+        public void decrement(double amount) {
+            setValue(value - amount);
+        }
+
+        @Override
+        public void setValue(double value) {
+            this.value = value;
+            count++;
+            sum += value;
+        }
+
+        @Override
+        public double getValue() {
+            return value;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public double getSum() {
+            return sum;
+        }
+
+        @Override
+        public Snapshot[] getSnapshots() {
+            return new Snapshot[0];
+        }
+
+        @Override
+        public StatisticConfig[] getStatisticsConfig() {
+            return statisticConfigs;
+        }
+    }
+}
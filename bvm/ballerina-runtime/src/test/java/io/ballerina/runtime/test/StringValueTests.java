@@ -1,5 +1,7 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +42,28 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testConcatInLoop() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            str = str.concat(StringUtils.fromString("part" + i));
+            expected.append("part").append(i);
+        }
+        Assert.assertEquals(str.length(), expected.length());
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str.getCodePoint(9), '1');
+        Assert.assertEquals(str, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(str.hashCode(), expected.toString().hashCode());
+    }
+
+    @Test
+    void testConcatWithNonBmp() {
+        BString str = StringUtils.fromString("a".repeat(40)).concat(StringUtils.fromString("b".repeat(40)))
+                .concat(SUBJECT);
+        Assert.assertEquals(str.length(), 96);
+        Assert.assertEquals(str.getCodePoint(81), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(95), 'r');
+        Assert.assertEquals(str.getValue(), "a".repeat(40) + "b".repeat(40) + UNICODE_STR);
+    }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.XmlElementReader;
+import io.ballerina.runtime.internal.values.XmlItem;
+import io.ballerina.runtime.internal.values.XmlSequence;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+/**
+ * Tests for reading the elements at a path of an XML document with {@link XmlUtils#parseElements}.
+ *
+ * @since 2201.9.0
+ */
+public class XmlElementReaderTests {
+
+    private static final String XMLNS_PREFIX = "{http://www.w3.org/2000/xmlns/}";
+
+    private static final String FEED = "<?xml version=\"1.0\"?><!-- c --><feed xmlns:p=\"urn:p\">" +
+            "<meta><record>no</record></meta>" +
+            "<record id=\"1\"><p:name>A &amp; B</p:name><![CDATA[x<y]]><?pi data?><!-- c --></record>text" +
+            "<p:record>ns</p:record>" +
+            "<record id=\"2\"><record>nested</record></record></feed>";
+
+    @Test
+    public void testElementsAtPath() {
+        List<BXml> records = readAll(FEED, "feed", "record");
+        Assert.assertEquals(records.size(), 2);
+        // Elements within non-matching elements and elements within the returned elements are not returned.
+        Assert.assertEquals(describe(records.get(0)),
+                "<record {id=1}>[<{urn:p}name {}>[TEXT:A & B,]</>,TEXT:x<y,PI:,COMMENT: c ,]</>");
+        Assert.assertEquals(describe(records.get(1)), "<record {id=2}>[<record {}>[TEXT:nested,]</>,]</>");
+    }
+
+    @Test
+    public void testNamespacedPath() {
+        List<BXml> records = readAll(FEED, "feed", "{urn:p}record");
+        Assert.assertEquals(records.size(), 1);
+        Assert.assertEquals(describe(records.get(0)), "<{urn:p}record {}>[TEXT:ns,]</>");
+
+        String document = "<f:feed xmlns:f=\"urn:f\" xmlns=\"urn:d\"><record>1</record><f:record>2</f:record>" +
+                "<record xmlns=\"\">3</record></f:feed>";
+        Assert.assertEquals(describeAll(readAll(document, "{urn:f}feed", "{urn:d}record")),
+                List.of("<{urn:d}record {}>[TEXT:1,]</>"));
+        Assert.assertEquals(describeAll(readAll(document, "{urn:f}feed", "record")),
+                List.of("<record {}>[TEXT:3,]</>"));
+        Assert.assertTrue(readAll(document, "feed", "record").isEmpty());
+    }
+
+    @Test
+    public void testSkippedSubtrees() {
+        String document = "<feed><skip><record>1</record><skip><record>2</record></skip></skip>" +
+                "<group><record>3</record></group><record>4</record>" +
+                "<group><other/><record><record>5</record></record></group></feed>";
+        Assert.assertEquals(describeAll(readAll(document, "feed", "group", "record")),
+                List.of("<record {}>[TEXT:3,]</>", "<record {}>[<record {}>[TEXT:5,]</>,]</>"));
+        Assert.assertEquals(describeAll(readAll(document, "feed", "record")), List.of("<record {}>[TEXT:4,]</>"));
+        Assert.assertTrue(readAll(document, "other", "record").isEmpty());
+    }
+
+    @Test
+    public void testSameElementsAsParse() {
+        // The elements read alone are the same as those of the whole document.
+        XmlSequence document = (XmlSequence) XmlUtils.parse(FEED);
+        List<String> expected = new ArrayList<>();
+        for (BXml item : document.getChildrenList()) {
+            if (item instanceof XmlItem element && element.getElementName().equals("feed")) {
+                for (BXml child : ((XmlSequence) element.children()).getChildrenList()) {
+                    if (child instanceof XmlItem childElement && childElement.getElementName().equals("record")) {
+                        expected.add(describe(childElement));
+                    }
+                }
+            }
+        }
+        Assert.assertEquals(describeAll(readAll(FEED, "feed", "record")), expected);
+        Assert.assertEquals(describe(document),
+                "[COMMENT: c ,<feed {}>[" +
+                        "<meta {}>[<record {}>[TEXT:no,]</>,]</>," +
+                        "<record {id=1}>[<{urn:p}name {}>[TEXT:A & B,]</>,TEXT:x<y,PI:,COMMENT: c ,]</>," +
+                        "TEXT:text,<{urn:p}record {}>[TEXT:ns,]</>," +
+                        "<record {id=2}>[<record {}>[TEXT:nested,]</>,]</>,]</>,]");
+    }
+
+    @Test
+    public void testParseErrorAfterElements() {
+        Iterator<BXml> elements = XmlUtils.parseElements(new StringReader("<a><b>1</b><b>2</b><b></a>"),
+                List.of("a", "b"));
+        Assert.assertEquals(describe(elements.next()), "<b {}>[TEXT:1,]</>");
+        Assert.assertEquals(describe(elements.next()), "<b {}>[TEXT:2,]</>");
+        BError error = Assert.expectThrows(BError.class, elements::hasNext);
+        Assert.assertEquals(error.getMessage(), parseError("<a><b>1</b><b>2</b><b></a>"));
+        Assert.assertFalse(elements.hasNext());
+
+        // Errors in skipped subtrees are reported as well.
+        elements = XmlUtils.parseElements(new StringReader("<a><b>1</b><c><d></c></a>"), List.of("a", "b"));
+        Assert.assertEquals(describe(elements.next()), "<b {}>[TEXT:1,]</>");
+        Assert.assertThrows(BError.class, elements::hasNext);
+    }
+
+    @Test
+    public void testEmptyPath() {
+        BError error = Assert.expectThrows(BError.class, () -> XmlUtils.parseElements(new StringReader("<a/>"),
+                List.of()));
+        Assert.assertEquals(error.getMessage(), "path of the elements to read cannot be empty");
+    }
+
+    @Test
+    public void testCloseBeforeEnd() throws Exception {
+        CountingReader reader = new CountingReader(new StringReader("<a>" + "<b>1</b>".repeat(10_000) + "</a>"));
+        Iterator<BXml> elements = XmlUtils.parseElements(reader, List.of("a", "b"));
+        Assert.assertEquals(describe(elements.next()), "<b {}>[TEXT:1,]</>");
+        Assert.assertTrue(elements instanceof AutoCloseable);
+        ((AutoCloseable) elements).close();
+        int reads = reader.reads;
+        Assert.assertFalse(elements.hasNext());
+        Assert.assertThrows(NoSuchElementException.class, elements::next);
+        Assert.assertEquals(reader.reads, reads);
+        // Closing again does nothing.
+        ((XmlElementReader) elements).close();
+    }
+
+    private static String parseError(String document) {
+        try {
+            XmlUtils.parse(document);
+        } catch (BError e) {
+            return e.getMessage();
+        }
+        throw new AssertionError("document is well-formed: " + document);
+    }
+
+    private static List<BXml> readAll(String document, String... path) {
+        List<BXml> elements = new ArrayList<>();
+        XmlUtils.parseElements(new StringReader(document), List.of(path)).forEachRemaining(elements::add);
+        return elements;
+    }
+
+    private static List<String> describeAll(List<BXml> values) {
+        List<String> descriptions = new ArrayList<>();
+        for (BXml value : values) {
+            descriptions.add(describe(value));
+        }
+        return descriptions;
+    }
+
+    private static String describe(BXml value) {
+        if (value instanceof XmlItem element) {
+            // Namespace declarations, which are added to the attributes of elements, are left out.
+            Map<String, String> attributes = new TreeMap<>();
+            for (Map.Entry<BString, BString> attribute : element.getAttributesMap().entrySet()) {
+                if (!attribute.getKey().getValue().startsWith(XMLNS_PREFIX)) {
+                    attributes.put(attribute.getKey().getValue(), attribute.getValue().getValue());
+                }
+            }
+            return "<" + element.getElementName() + " " + attributes + ">" + describe(element.children()) + "</>";
+        }
+        if (value instanceof XmlSequence sequence) {
+            StringBuilder description = new StringBuilder("[");
+            for (BXml item : sequence.getChildrenList()) {
+                description.append(describe(item)).append(",");
+            }
+            return description.append("]").toString();
+        }
+        return value.getNodeType() + ":" + value.getTextValue();
+    }
+
+    private static class CountingReader extends Reader {
+
+        private final Reader reader;
+        private int reads;
+
+        private CountingReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            reads++;
+            return reader.read(buffer, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -44,6 +44,7 @@ import org.wso2.ballerinalang.programfile.PackageFileWriter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -393,6 +394,33 @@ class ModuleContext {
         }
     }
 
+    /**
+     * Parses the source and test documents of the given modules concurrently.
+     * <p>
+     * Unlike the rest of the compilation, parsing a document does not use the compiler context and does not depend on
+     * other documents. The documents are parsed ahead, so that the sequential compilation finds them parsed.
+     *
+     * @param moduleContexts modules to parse
+     */
+    static void parseConcurrently(Collection<ModuleContext> moduleContexts) {
+        List<DocumentContext> docContexts = new ArrayList<>();
+        for (ModuleContext moduleContext : moduleContexts) {
+            for (DocumentContext docContext : moduleContext.srcDocContextMap.values()) {
+                if (docContext.cachesSyntaxTree()) {
+                    docContexts.add(docContext);
+                }
+            }
+            for (DocumentContext docContext : moduleContext.testDocContextMap.values()) {
+                if (docContext.cachesSyntaxTree()) {
+                    docContexts.add(docContext);
+                }
+            }
+        }
+        if (docContexts.size() > 1) {
+            docContexts.parallelStream().forEach(DocumentContext::parse);
+        }
+    }
+
     static void resolveDependenciesInternal(ModuleContext moduleContext) {
     }
 
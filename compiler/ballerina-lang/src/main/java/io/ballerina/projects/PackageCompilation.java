@@ -207,6 +207,15 @@ public class PackageCompilation {
         diagnostics.addAll(packageContext().dependencyManifest().diagnostics().allDiagnostics);
         // add compilation diagnostics
         if (!packageResolution.diagnosticResult().hasErrors()) {
+            // Only parsing is done concurrently. The later phases share the compiler context, which is not thread
+            // safe, and therefore compile one module at a time in dependency order.
+            List<ModuleContext> modulesToParse = new ArrayList<>();
+            for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
+                if (moduleContext.currentCompilationState() == ModuleCompilationState.LOADED_FROM_SOURCES) {
+                    modulesToParse.add(moduleContext);
+                }
+            }
+            ModuleContext.parseConcurrently(modulesToParse);
             for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
                 moduleContext.compile(compilerContext);
                 for (Diagnostic diagnostic : moduleContext.diagnostics()) {
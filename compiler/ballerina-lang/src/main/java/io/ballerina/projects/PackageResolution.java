@@ -193,6 +193,13 @@ public class PackageResolution {
 
     private LinkedHashSet<ModuleLoadRequest> getModuleLoadRequestsOfDirectDependencies() {
         LinkedHashSet<ModuleLoadRequest> allModuleLoadRequests = new ModuleContext.OverwritableLinkedHashSet();
+        // Import declarations are read from the syntax trees, parse all documents of the package up front.
+        List<ModuleContext> moduleContexts = new ArrayList<>();
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            moduleContexts.add(rootPackageContext.moduleContext(moduleId));
+        }
+        ModuleContext.parseConcurrently(moduleContexts);
+
         for (ModuleId moduleId : rootPackageContext.moduleIds()) {
             ModuleContext moduleContext = rootPackageContext.moduleContext(moduleId);
             allModuleLoadRequests.addAll(moduleContext.populateModuleLoadRequests());
@@ -232,6 +232,10 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_STRI
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPEDESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPEDESC_OF_OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.HANDLE_MAP_STORE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.HANDLE_MAP_STORE_BOOLEAN;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.HANDLE_MAP_STORE_BYTE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.HANDLE_MAP_STORE_FLOAT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.HANDLE_MAP_STORE_INT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.HANDLE_TABLE_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_ARRAY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_ARRAY_WITH_INITIAL_VALUES;
@@ -1462,6 +1466,14 @@ public class JvmInstructionGen {
         // visit value_expr
         BType valueType = mapStoreIns.rhsOp.variableDcl.type;
         this.loadVar(mapStoreIns.rhsOp.variableDcl);
+        if (varRefType.tag == TypeTags.MAP && !mapStoreIns.onInitialization) {
+            String unboxedMapStoreDesc = getUnboxedMapStoreDesc(JvmCodeGenUtil.getImpliedType(valueType));
+            if (unboxedMapStoreDesc != null) {
+                // Values of these types are boxed in the runtime, only once they are known to fit in the map.
+                this.mv.visitMethodInsn(INVOKESTATIC, MAP_UTILS, "handleMapStore", unboxedMapStoreDesc, false);
+                return;
+            }
+        }
         jvmCastGen.addBoxInsn(this.mv, valueType);
 
         if (varRefType.tag == TypeTags.JSON) {
@@ -1476,6 +1488,18 @@ public class JvmInstructionGen {
         }
     }
 
+    private static String getUnboxedMapStoreDesc(BType valueType) {
+        if (TypeTags.isIntegerTypeTag(valueType.tag)) {
+            return HANDLE_MAP_STORE_INT;
+        }
+        return switch (valueType.tag) {
+            case TypeTags.FLOAT -> HANDLE_MAP_STORE_FLOAT;
+            case TypeTags.BOOLEAN -> HANDLE_MAP_STORE_BOOLEAN;
+            case TypeTags.BYTE -> HANDLE_MAP_STORE_BYTE;
+            default -> null;
+        };
+    }
+
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
         // visit map_ref
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
@@ -23,6 +23,7 @@ import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.ballerinalang.util.diagnostic.DiagnosticErrorCode;
+import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassTooLargeException;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
@@ -80,6 +81,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
@@ -372,8 +374,14 @@ public class JvmPackageGen {
                                        JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen, JvmConstantsGen jvmConstantsGen,
                                        Map<String, JavaClass> jvmClassMapping, List<PackageID> moduleImports,
                                        boolean serviceEPAvailable, BIRFunction mainFunc, BIRFunction testExecuteFunc) {
+        // The method, lambda and constant generators share state which decides the names and order of the generated
+        // members, so the classes are written one after the other without stack map frames. The frames, which take
+        // most of the time spent in ASM, do not depend on any shared state and are computed for all the classes in
+        // parallel afterwards.
+        List<String> moduleClasses = new ArrayList<>(jvmClassMapping.size());
+        List<byte[]> classBytes = new ArrayList<>(jvmClassMapping.size());
         jvmClassMapping.forEach((moduleClass, javaClass) -> {
-            ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+            ClassWriter cw = new BallerinaClassWriter(0);
             AsyncDataCollector asyncDataCollector = new AsyncDataCollector(moduleClass);
             boolean isInitClass = Objects.equals(moduleClass, moduleInitClass);
             boolean isTestable = testExecuteFunc != null;
@@ -428,9 +436,32 @@ public class JvmPackageGen {
                     asyncDataCollector, jvmConstantsGen);
             cw.visitEnd();
 
-            byte[] bytes = getBytes(cw, module);
-            jarEntries.put(moduleClass + CLASS_FILE_SUFFIX, bytes);
+            moduleClasses.add(moduleClass);
+            classBytes.add(getBytes(cw, module));
         });
+
+        Object[] framedClasses = new Object[classBytes.size()];
+        IntStream.range(0, framedClasses.length).parallel().forEach(i -> {
+            byte[] bytes = classBytes.get(i);
+            try {
+                framedClasses[i] = bytes.length == 0 ? bytes : computeFrames(bytes);
+            } catch (Throwable e) {
+                framedClasses[i] = e;
+            }
+        });
+
+        // Diagnostics are logged, and the entries are added, in the same order as the classes were generated.
+        for (int i = 0; i < framedClasses.length; i++) {
+            Object framedClass = framedClasses[i];
+            byte[] bytes = framedClass instanceof Throwable e ? handleClassWriteError(e, module) : (byte[]) framedClass;
+            jarEntries.put(moduleClasses.get(i) + CLASS_FILE_SUFFIX, bytes);
+        }
+    }
+
+    private static byte[] computeFrames(byte[] bytes) {
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        new ClassReader(bytes).accept(cw, ClassReader.SKIP_FRAMES);
+        return cw.toByteArray();
     }
 
     private List<PackageID> flattenModuleImports(Set<PackageID> dependentModuleArray) {
@@ -620,11 +651,15 @@ public class JvmPackageGen {
     }
 
     public byte[] getBytes(ClassWriter cw, BIRNode node) {
-
-        byte[] result;
         try {
             return cw.toByteArray();
-        } catch (MethodTooLargeException e) {
+        } catch (Throwable e) {
+            return handleClassWriteError(e, node);
+        }
+    }
+
+    private byte[] handleClassWriteError(Throwable error, BIRNode node) {
+        if (error instanceof MethodTooLargeException e) {
             String funcName = e.getMethodName();
             BIRFunction func = findFunction(node, funcName);
             if (func != null && func.pos != null) {
@@ -634,16 +669,14 @@ public class JvmPackageGen {
                 dlog.error(node.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
                         Utils.decodeIdentifier(funcName));
             }
-            result = new byte[0];
-        } catch (ClassTooLargeException e) {
+            return new byte[0];
+        }
+        if (error instanceof ClassTooLargeException e) {
             dlog.error(node.pos, DiagnosticErrorCode.FILE_TOO_LARGE,
                     Utils.decodeIdentifier(e.getClassName()));
-            result = new byte[0];
-        } catch (Throwable e) {
-            throw new BLangCompilerException(e.getMessage(), e);
+            return new byte[0];
         }
-
-        return result;
+        throw new BLangCompilerException(error.getMessage(), error);
     }
 
     private void clearPackageGenInfo() {
@@ -33,6 +33,7 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSequenceSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
@@ -45,6 +46,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BSequenceType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleMember;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
@@ -217,6 +219,10 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
+    private static final Name QUERY_CREATE_ORDER_BY_LIMIT_FUNCTION = new Name("createOrderByLimitFunction");
+    private static final Name QUERY_GET_TABLE_ROWS_WITH_FIELD_VALUE_FUNCTION =
+            new Name("getTableRowsWithFieldValue");
+    private static final Name QUERY_GET_TABLE_ROWS_IN_RANGE_FUNCTION = new Name("getTableRowsInRange");
     private static final Name QUERY_CREATE_GROUP_BY_FUNCTION = new Name("createGroupByFunction");
     private static final Name QUERY_CREATE_COLLECT_FUNCTION = new Name("createCollectFunction");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
@@ -500,11 +506,13 @@ public class QueryDesugar extends BLangNodeVisitor {
                                        BLangBlockStmt block, List<BLangStatement> stmtsToBePropagated) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
+        BLangExpression initCollection = getIndexedTableRows(block, initFromClause, clauses);
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+                initCollection != null ? initCollection : initFromClause.collection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause, stmtsToBePropagated);
         addStreamFunction(block, initPipeline, initFrom);
-        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+        for (int i = 1; i < clauses.size(); i++) {
+            BLangNode clause = clauses.get(i);
             switch (clause.getKind()) {
                 case FROM:
                     BLangFromClause fromClause = (BLangFromClause) clause;
@@ -535,8 +543,14 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, whereFunc);
                     break;
                 case ORDER_BY:
-                    BLangVariableReference orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause,
-                            stmtsToBePropagated);
+                    BLangVariableReference orderFunc;
+                    if (i + 1 < clauses.size() && clauses.get(i + 1).getKind() == NodeKind.LIMIT) {
+                        // Only the first `limit` frames in order have to be kept, limit is applied while ordering.
+                        orderFunc = addOrderByLimitFunction(block, (BLangOrderByClause) clause,
+                                (BLangLimitClause) clauses.get(++i), stmtsToBePropagated);
+                    } else {
+                        orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause, stmtsToBePropagated);
+                    }
                     addStreamFunction(block, initPipeline, orderFunc);
                     break;
                 case GROUP_BY:
@@ -619,6 +633,225 @@ public class QueryDesugar extends BLangNodeVisitor {
                 Lists.of(valueVarRef, constraintTdExpr, completionTdExpr, desugar.getBooleanLiteral(isStream)), pos);
     }
 
+    /**
+     * When the query iterates a table and filters the rows on the value of a field right away, desugar the collection
+     * to below. The rows are looked up through a hash index if one has been declared on the field, and the table
+     * itself is returned otherwise. The where clause is still applied to the rows.
+     * Row[]|table<Row> rows = getTableRowsWithFieldValue(tbl, "field", value);
+     * <p>
+     * When the rows are filtered on a range of values of an int or string field instead, as in
+     * {@code where row.field >= lower && row.field < upper}, desugar the collection to below, in the same way.
+     * Row[]|table<Row> rows = getTableRowsInRange(tbl, "field", lower, true, upper, false);
+     * <p>
+     * This is only done for readonly tables, since the rows looked up before iterating must be the rows the table
+     * iterator would return, even if the table is changed in a do clause or while a resulting stream is consumed. It
+     * is also only done for values which cannot change while iterating the table.
+     *
+     * @param blockStmt  parent block to write to.
+     * @param fromClause the first from clause of the query.
+     * @param clauses    all the clauses of the query.
+     * @return variableReference to the matching rows, or null if the rows cannot be looked up this way.
+     */
+    private BLangVariableReference getIndexedTableRows(BLangBlockStmt blockStmt, BLangFromClause fromClause,
+                                                       List<BLangNode> clauses) {
+        if (clauses.size() < 2 || clauses.get(1).getKind() != NodeKind.WHERE) {
+            return null;
+        }
+        BType collectionType = Types.getImpliedType(fromClause.collection.getBType());
+        if (collectionType.tag != TypeTags.TABLE) {
+            return null;
+        }
+        BType rowType = ((BTableType) collectionType).constraint;
+        BType rowRecordType = Types.getImpliedType(rowType);
+        BLangVariable variable = (BLangVariable) fromClause.variableDefinitionNode.getVariable();
+        BLangExpression condition = ((BLangWhereClause) clauses.get(1)).expression;
+        if (rowRecordType.tag != TypeTags.RECORD || variable.getKind() != NodeKind.VARIABLE ||
+                condition.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) condition;
+        if (binaryExpr.opKind != OperatorKind.EQUAL) {
+            return getTableRowsInRange(blockStmt, fromClause, variable.symbol, binaryExpr);
+        }
+
+        BLangFieldBasedAccess fieldAccess;
+        BLangExpression valueExpr;
+        if (isFieldAccessOfVariable(binaryExpr.lhsExpr, variable.symbol)) {
+            fieldAccess = (BLangFieldBasedAccess) binaryExpr.lhsExpr;
+            valueExpr = binaryExpr.rhsExpr;
+        } else if (isFieldAccessOfVariable(binaryExpr.rhsExpr, variable.symbol)) {
+            fieldAccess = (BLangFieldBasedAccess) binaryExpr.rhsExpr;
+            valueExpr = binaryExpr.lhsExpr;
+        } else {
+            return null;
+        }
+
+        String fieldName = fieldAccess.field.value;
+        if (getIndexedField(collectionType, fieldName) == null) {
+            return null;
+        }
+        BLangExpression lookupValue = copyLookupValue(valueExpr, variable.symbol);
+        if (lookupValue == null) {
+            return null;
+        }
+        Location pos = fromClause.pos;
+        return getStreamFunctionVariableRef(blockStmt, QUERY_GET_TABLE_ROWS_WITH_FIELD_VALUE_FUNCTION,
+                BUnionType.create(null, new BArrayType(rowType), fromClause.collection.getBType()),
+                Lists.of(fromClause.collection, createStringLiteral(pos, fieldName), lookupValue), pos);
+    }
+
+    private BLangVariableReference getTableRowsInRange(BLangBlockStmt blockStmt, BLangFromClause fromClause,
+                                                       BSymbol variableSymbol, BLangBinaryExpr condition) {
+        List<BLangBinaryExpr> comparisons;
+        if (condition.opKind == OperatorKind.AND) {
+            if (condition.lhsExpr.getKind() != NodeKind.BINARY_EXPR ||
+                    condition.rhsExpr.getKind() != NodeKind.BINARY_EXPR) {
+                return null;
+            }
+            comparisons = Lists.of((BLangBinaryExpr) condition.lhsExpr, (BLangBinaryExpr) condition.rhsExpr);
+        } else {
+            comparisons = Lists.of(condition);
+        }
+
+        String fieldName = null;
+        BLangExpression lowerBound = null;
+        BLangExpression upperBound = null;
+        boolean lowerInclusive = false;
+        boolean upperInclusive = false;
+        for (BLangBinaryExpr comparison : comparisons) {
+            OperatorKind opKind = comparison.opKind;
+            BLangExpression fieldExpr = comparison.lhsExpr;
+            BLangExpression valueExpr = comparison.rhsExpr;
+            if (!isFieldAccessOfVariable(fieldExpr, variableSymbol)) {
+                // `value < row.field` is the same as `row.field > value`.
+                fieldExpr = comparison.rhsExpr;
+                valueExpr = comparison.lhsExpr;
+                opKind = getReversedComparison(opKind);
+                if (!isFieldAccessOfVariable(fieldExpr, variableSymbol)) {
+                    return null;
+                }
+            }
+            String comparedFieldName = ((BLangFieldBasedAccess) fieldExpr).field.value;
+            if (fieldName != null && !fieldName.equals(comparedFieldName)) {
+                return null;
+            }
+            fieldName = comparedFieldName;
+            BLangExpression bound = copyLookupValue(valueExpr, variableSymbol);
+            if (bound == null) {
+                return null;
+            }
+            if ((opKind == OperatorKind.GREATER_THAN || opKind == OperatorKind.GREATER_EQUAL) && lowerBound == null) {
+                lowerBound = bound;
+                lowerInclusive = opKind == OperatorKind.GREATER_EQUAL;
+            } else if ((opKind == OperatorKind.LESS_THAN || opKind == OperatorKind.LESS_EQUAL) &&
+                    upperBound == null) {
+                upperBound = bound;
+                upperInclusive = opKind == OperatorKind.LESS_EQUAL;
+            } else {
+                return null;
+            }
+        }
+
+        BType collectionType = fromClause.collection.getBType();
+        BField field = getIndexedField(Types.getImpliedType(collectionType), fieldName);
+        if (field == null) {
+            return null;
+        }
+        int fieldTypeTag = Types.getImpliedType(field.type).tag;
+        if (!TypeTags.isIntegerTypeTag(fieldTypeTag) && !TypeTags.isStringTypeTag(fieldTypeTag)) {
+            return null;
+        }
+        Location pos = fromClause.pos;
+        BType rowType = ((BTableType) Types.getImpliedType(collectionType)).constraint;
+        return getStreamFunctionVariableRef(blockStmt, QUERY_GET_TABLE_ROWS_IN_RANGE_FUNCTION,
+                BUnionType.create(null, new BArrayType(rowType), collectionType),
+                Lists.of(fromClause.collection, createStringLiteral(pos, fieldName),
+                        lowerBound != null ? lowerBound : ASTBuilderUtil.createLiteral(pos, symTable.nilType, null),
+                        desugar.getBooleanLiteral(lowerInclusive),
+                        upperBound != null ? upperBound : ASTBuilderUtil.createLiteral(pos, symTable.nilType, null),
+                        desugar.getBooleanLiteral(upperInclusive)), pos);
+    }
+
+    private OperatorKind getReversedComparison(OperatorKind opKind) {
+        switch (opKind) {
+            case LESS_THAN:
+                return OperatorKind.GREATER_THAN;
+            case LESS_EQUAL:
+                return OperatorKind.GREATER_EQUAL;
+            case GREATER_THAN:
+                return OperatorKind.LESS_THAN;
+            case GREATER_EQUAL:
+                return OperatorKind.LESS_EQUAL;
+            default:
+                return opKind;
+        }
+    }
+
+    /**
+     * Returns the field of the rows of the given table type with the given name, if tables of the type are readonly.
+     * Rows can be added to or removed from other tables while they are iterated, and a field being readonly does not
+     * prevent that.
+     *
+     * @param tableType type of the table.
+     * @param fieldName name of the field.
+     * @return the field, or null if the table is not readonly or the rows do not have such a field.
+     */
+    private BField getIndexedField(BType tableType, String fieldName) {
+        BType rowRecordType = Types.getImpliedType(((BTableType) tableType).constraint);
+        if (rowRecordType.tag != TypeTags.RECORD || !Symbols.isFlagOn(tableType.flags, Flags.READONLY)) {
+            return null;
+        }
+        return ((BRecordType) rowRecordType).fields.get(fieldName);
+    }
+
+    private boolean isFieldAccessOfVariable(BLangExpression expr, BSymbol variableSymbol) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return false;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        return !fieldAccess.optionalFieldAccess && fieldAccess.expr.getKind() == NodeKind.SIMPLE_VARIABLE_REF &&
+                ((BLangSimpleVarRef) fieldAccess.expr).symbol == variableSymbol;
+    }
+
+    /**
+     * Returns a copy of the given expression if its value cannot change while iterating the table, so that it can be
+     * evaluated once before iterating. That is the case for literals, constants, and references to final variables
+     * and function parameters. Other variables can be assigned to within the query, for example in a do clause or in
+     * a closure called by the query.
+     *
+     * @param expr           value expression of the where clause.
+     * @param variableSymbol symbol of the variable defined by the from clause.
+     * @return copy of the expression, or null if the expression cannot be evaluated before iterating the table.
+     */
+    private BLangExpression copyLookupValue(BLangExpression expr, BSymbol variableSymbol) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                BLangLiteral literal = (BLangLiteral) expr;
+                return isLookupValueType(literal.getBType()) ?
+                        ASTBuilderUtil.createLiteral(literal.pos, literal.getBType(), literal.value) : null;
+            case CONSTANT_REF:
+                BLangConstRef constRef = (BLangConstRef) expr;
+                return isLookupValueType(constRef.getBType()) ?
+                        ASTBuilderUtil.createLiteral(constRef.pos, constRef.getBType(), constRef.value) : null;
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                if (symbol == variableSymbol || symbol.getKind() != SymbolKind.VARIABLE ||
+                        !(Symbols.isFlagOn(symbol.flags, Flags.FINAL) ||
+                                Symbols.isFlagOn(symbol.flags, Flags.FUNCTION_FINAL))) {
+                    return null;
+                }
+                return ASTBuilderUtil.createVariableRef(expr.pos, (BVarSymbol) symbol);
+            default:
+                return null;
+        }
+    }
+
+    private boolean isLookupValueType(BType type) {
+        int typeTag = Types.getImpliedType(type).tag;
+        return typeTag == TypeTags.INT || typeTag == TypeTags.STRING || typeTag == TypeTags.BOOLEAN;
+    }
+
     /**
      * Desugar inputClause to below and return a reference to created from _StreamFunction.
      * _StreamFunction xsFrom = createFromFunction(function(_Frame frame) returns _Frame|error? {
@@ -801,6 +1034,37 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause,
                                               List<BLangStatement> stmtsToBePropagated) {
+        BLangLambdaFunction lambda = createOrderByLambda(orderByClause, stmtsToBePropagated);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda),
+                orderByClause.pos);
+    }
+
+    /**
+     * Desugar orderByClause followed by a limitClause to below and return a reference to created orderBy
+     * _StreamFunction, which only keeps the frames within the limit while ordering.
+     * _StreamFunction orderByFunc = createOrderByLimitFunction(function(_Frame frame) {
+     * _Frame frame = {"orderKey": frame["x2"] + frame["y2"], $orderDirection$: true + false"};
+     * }, function(_Frame frame) returns int|error {
+     * return limit-expr;
+     * });
+     *
+     * @param blockStmt           parent block to write to.
+     * @param orderByClause       to be desugared.
+     * @param limitClause         limit clause which follows the orderByClause.
+     * @param stmtsToBePropagated list of statements to be propagated.
+     * @return variableReference to created orderBy _StreamFunction.
+     */
+    BLangVariableReference addOrderByLimitFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause,
+                                                   BLangLimitClause limitClause,
+                                                   List<BLangStatement> stmtsToBePropagated) {
+        BLangLambdaFunction orderLambda = createOrderByLambda(orderByClause, stmtsToBePropagated);
+        BLangLambdaFunction limitLambda = createLimitLambda(limitClause);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_LIMIT_FUNCTION,
+                Lists.of(orderLambda, limitLambda), orderByClause.pos);
+    }
+
+    private BLangLambdaFunction createOrderByLambda(BLangOrderByClause orderByClause,
+                                                    List<BLangStatement> stmtsToBePropagated) {
         Location pos = orderByClause.pos;
         BLangLambdaFunction lambda = createActionLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -833,7 +1097,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangStatement orderDirectionStmt = getAddToFrameStmt(pos, frame, "$orderDirection$", sortModesArrayExpr);
         body.stmts.add(orderDirectionStmt);
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda), pos);
+        return lambda;
     }
 
     BLangVariableReference addGroupByFunction(BLangBlockStmt blockStmt, BLangGroupByClause groupByClause,
@@ -859,7 +1123,9 @@ public class QueryDesugar extends BLangNodeVisitor {
         nonGroupingKeys.exprs = new ArrayList<>();
         nonGroupingKeys.setBType(new BArrayType(symTable.stringType));
         for (String nonGroupingKey : groupByClause.nonGroupingKeys) {
-            nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+            if (isSequenceReferenced(groupByClause.env, nonGroupingKey)) {
+                nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+            }
         }
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_GROUP_BY_FUNCTION,
                 Lists.of(keys, nonGroupingKeys), pos);
@@ -872,7 +1138,9 @@ public class QueryDesugar extends BLangNodeVisitor {
         nonGroupingKeys.exprs = new ArrayList<>();
         nonGroupingKeys.setBType(new BArrayType(symTable.stringType));
         for (String nonGroupingKey : collectClause.nonGroupingKeys) {
-            nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+            if (isSequenceReferenced(collectClause.env, nonGroupingKey)) {
+                nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+            }
         }
 
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
@@ -887,6 +1155,19 @@ public class QueryDesugar extends BLangNodeVisitor {
                 Lists.of(nonGroupingKeys, lambda), pos);
     }
 
+    /**
+     * Checks whether the sequence variable defined for a non grouping key is referenced in the rest of the query. Only
+     * the values of referenced ones are collected into sequences.
+     *
+     * @param env  env of the group by or collect clause which defines the sequence variable.
+     * @param name name of the non grouping key.
+     * @return false if the sequence variable is not referenced.
+     */
+    private boolean isSequenceReferenced(SymbolEnv env, String name) {
+        BSymbol symbol = symResolver.lookupSymbolInGivenScope(env, Names.fromString(name), SymTag.SEQUENCE);
+        return !(symbol instanceof BSequenceSymbol sequenceSymbol) || sequenceSymbol.referenced;
+    }
+
     BLangLetClause createLetClauseFromVarDef(BLangSimpleVariableDef varDef) {
         BLangLetClause letClause = (BLangLetClause) TreeBuilder.createLetClauseNode();
         letClause.pos = varDef.pos;
@@ -988,6 +1269,12 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return variableReference to created do _StreamFunction.
      */
     BLangVariableReference addLimitFunction(BLangBlockStmt blockStmt, BLangLimitClause limitClause) {
+        BLangLambdaFunction limitFunction = createLimitLambda(limitClause);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION, Lists.of(limitFunction),
+                limitClause.pos);
+    }
+
+    private BLangLambdaFunction createLimitLambda(BLangLimitClause limitClause) {
         Location pos = limitClause.pos;
         BLangUnionTypeNode returnTypeNode = getIntErrorTypeNode();
         BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
@@ -995,7 +1282,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         returnNode.pos = pos;
         BLangLambdaFunction limitFunction = createLambdaFunction(pos, returnTypeNode, returnNode, false);
         limitFunction.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION, Lists.of(limitFunction), pos);
+        return limitFunction;
     }
 
     /**
@@ -1136,6 +1136,7 @@ public class QueryTypeChecker extends TypeChecker {
             } else if ((symbol.tag & SymTag.SEQUENCE) == SymTag.SEQUENCE) {
                 varRefExpr.symbol = symbol;
                 actualType = symbol.type;
+                ((BSequenceSymbol) symbol).referenced = true;
                 if (!data.queryData.withinSequenceContext) {
                     dlog.error(varRefExpr.pos,
                             DiagnosticErrorCode.
@@ -31,6 +31,9 @@ import org.wso2.ballerinalang.compiler.util.Name;
  */
 public class BSequenceSymbol extends BVarSymbol {
 
+    // Whether the sequence variable is referenced. Values of unreferenced ones need not be collected at runtime.
+    public boolean referenced;
+
     public BSequenceSymbol(long flags, Name name, PackageID pkgID, BType type, BSymbol owner, Location pos) {
         super(flags, name, name, pkgID, type, owner, pos, SymbolOrigin.VIRTUAL);
         this.kind = SymbolKind.SEQUENCE;
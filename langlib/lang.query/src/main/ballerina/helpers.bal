@@ -64,6 +64,11 @@ function createOrderByFunction(function(_Frame _frame) returns error? orderFunc)
     return new _OrderByFunction(orderFunc);
 }
 
+function createOrderByLimitFunction(function(_Frame _frame) returns error? orderFunc,
+        function (_Frame _frame) returns int limitFunction) returns _StreamFunction {
+    return new _OrderByLimitFunction(orderFunc, limitFunction);
+}
+
 function createGroupByFunction(string[] keys, string[] nonGroupingKeys) returns _StreamFunction {
     return new _GroupByFunction(keys, nonGroupingKeys);
 }
@@ -328,6 +333,49 @@ function createImmutableValue(any mutableValue) = @java:Method {
     name: "createImmutableValue"
 } external;
 
+function createJoinIndex() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinIndex",
+    name: "createJoinIndex"
+} external;
+
+function getJoinCandidates(handle index, any key) returns _Frame[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinIndex",
+    name: "getJoinCandidates"
+} external;
+
+function putJoinCandidates(handle index, any key, _Frame[] candidates) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinIndex",
+    name: "putJoinCandidates"
+} external;
+
+function getTableRowsWithFieldValue(table<map<any|error>> tbl, string fieldName, anydata value)
+        returns map<any|error>[]|table<map<any|error>> = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableFieldIndex",
+    name: "getRowsWithFieldValue"
+} external;
+
+function getTableRowsInRange(table<map<any|error>> tbl, string fieldName, int|string? lowerBound,
+        boolean lowerInclusive, int|string? upperBound, boolean upperInclusive)
+        returns map<any|error>[]|table<map<any|error>> = @java:Method {
+    'class: "org.ballerinalang.langlib.query.SortedTableFieldIndex",
+    name: "getRowsInRange"
+} external;
+
+function createGroupIndex() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupIndex",
+    name: "createGroupIndex"
+} external;
+
+function getGroup(handle index, anydata key) returns _Frame? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupIndex",
+    name: "getGroup"
+} external;
+
+function putGroup(handle index, anydata key, _Frame groupedFrame) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupIndex",
+    name: "putGroup"
+} external;
+
 # Prepare `error` as a distinct `Error`.
 #
 # + err - `error` instance
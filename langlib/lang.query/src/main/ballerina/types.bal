@@ -106,8 +106,17 @@ class _StreamPipeline {
 
     function addStreamFunction(_StreamFunction streamFunction) {
         _StreamFunction existingFunc = self.streamFunction;
-        streamFunction.prevFunc = existingFunc;
-        self.streamFunction = streamFunction;
+        // Consecutive input, let, where and select functions are run as the stages of a single function.
+        if (existingFunc is _FusedFunction && existingFunc.fuse(streamFunction)) {
+            return;
+        }
+        _StreamFunction sf = streamFunction;
+        _FusedFunction fusedFunc = new;
+        if (fusedFunc.fuse(streamFunction)) {
+            sf = fusedFunc;
+        }
+        sf.prevFunc = existingFunc;
+        self.streamFunction = sf;
     }
 
     public function getStream() returns stream<Type, CompletionType> {
@@ -340,13 +349,91 @@ class _LetFunction {
     }
 }
 
+class _FusedFunction {
+    *_StreamFunction;
+
+    # Functions of the fused input, let, where and select functions, in the order they are applied to a frame.
+    (function (_Frame _frame) returns any|error)[] stageFuncs = [];
+    # Whether the function at the same index is a filter function.
+    boolean[] filterStages = [];
+
+    function init() {
+        self.prevFunc = ();
+    }
+
+    # Adds the given function as the last stage, if it can be fused.
+    # + return - true if the function was fused.
+    function fuse(_StreamFunction streamFunction) returns boolean {
+        if (streamFunction is _InputFunction) {
+            self.addStage(streamFunction.inputFunc, false);
+        } else if (streamFunction is _LetFunction) {
+            self.addStage(streamFunction.letFunc, false);
+        } else if (streamFunction is _FilterFunction) {
+            self.addStage(streamFunction.filterFunc, true);
+        } else if (streamFunction is _SelectFunction) {
+            self.addStage(streamFunction.selectFunc, false);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    function addStage(function (_Frame _frame) returns any|error stageFunc, boolean isFilter) {
+        self.stageFuncs.push(stageFunc);
+        self.filterStages.push(isFilter);
+    }
+
+    public function process() returns _Frame|error? {
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        (function (_Frame _frame) returns any|error)[] stageFuncs = self.stageFuncs;
+        boolean[] filterStages = self.filterStages;
+        int stageCount = stageFuncs.length();
+        _Frame|error? pFrame = pf.process();
+        while (pFrame is _Frame) {
+            // Each stage updates and returns the same frame, or tells whether the frame is filtered out.
+            _Frame frame = pFrame;
+            int i = 0;
+            while (i < stageCount) {
+                any|error res = stageFuncs[i](frame);
+                if (res is error) {
+                    return prepareQueryBodyError(res);
+                }
+                if (filterStages[i]) {
+                    if (!<boolean>res) {
+                        break;
+                    }
+                } else if (res is ()) {
+                    return ();
+                } else {
+                    frame = <_Frame>res;
+                }
+                i += 1;
+            }
+            if (i == stageCount) {
+                return frame;
+            }
+            pFrame = pf.process();
+        }
+        return pFrame;
+    }
+
+    public function reset() {
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+}
+
 class _InnerJoinFunction {
     *_StreamFunction;
     function (_Frame _frame) returns any|error lhsKeyFunction;
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
+    _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
+    _Frame? lhsFrame;
     error? failureAtJoin = ();
-    stream<_Frame>? joinedFramesStream;
 
     function init(
             _StreamPipeline pipelineToJoin,
@@ -354,8 +441,9 @@ class _InnerJoinFunction {
             function (_Frame _frame) returns any|error rhsKeyFunction) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
+        self.rhsCandidates = ();
         self.prevFunc = ();
-        self.joinedFramesStream = ();
+        self.lhsFrame = ();
 
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
@@ -364,7 +452,7 @@ class _InnerJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -378,48 +466,50 @@ class _InnerJoinFunction {
     # join var ... in streamA join var ... in streamB
     # + return - merged two frames { ...frameA, ...frameB }
     public function process() returns _Frame|error? {
-        if (self.joinedFramesStream is ()) {
-            function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
-            _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-            _StreamFunction pf = <_StreamFunction>self.prevFunc;
-            _Frame|error? lhsFrame = pf.process();
-            _Frame[] joinedFrames = [];
-            error? failureAtJoin = self.failureAtJoin;
+        function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
+        error? failureAtJoin = self.failureAtJoin;
 
-            if (failureAtJoin is error) {
-                fail failureAtJoin;
-            }
+        if (failureAtJoin is error) {
+            fail failureAtJoin;
+        }
 
-            while (lhsFrame is _Frame) {
-                any|error lhsKFRes = lhsKF(lhsFrame);
-                if (lhsKFRes is error) {
-                    return prepareQueryBodyError(lhsKFRes);
-                }
-                string lhsKey = (lhsKFRes).toString();
-
-                _Frame[]? rhsCandidates = rhsFramesMap.get(lhsKey);
-                while (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                    _Frame rhsFrame = rhsCandidates.shift();
-                    _Frame joinedFrame = {...lhsFrame};
-                    foreach var [k, val] in rhsFrame.entries() {
-                        joinedFrame[k] = val;
-                    }
-                    joinedFrames.push(joinedFrame);
+        while (true) {
+            _Frame? lhsFrame = self.lhsFrame;
+            _Frame[]? rhsCandidates = self.rhsCandidates;
+            if (lhsFrame is _Frame && rhsCandidates is _Frame[]
+                    && self.rhsCandidateIndex < rhsCandidates.length()) {
+                _Frame rhsFrame = rhsCandidates[self.rhsCandidateIndex];
+                self.rhsCandidateIndex += 1;
+                _Frame joinedFrame = {...lhsFrame};
+                foreach var [k, val] in rhsFrame.entries() {
+                    joinedFrame[k] = val;
                 }
-                lhsFrame = pf.process();
+                return joinedFrame;
             }
-            self.joinedFramesStream = joinedFrames.toStream();
-        }
-        stream<_Frame> s = <stream<_Frame>>self.joinedFramesStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
+
+            // Candidates of the current lhs frame are exhausted, move to the next lhs frame.
+            _Frame|error? nextLhsFrame = pf.process();
+            if nextLhsFrame !is _Frame {
+                self.lhsFrame = ();
+                self.rhsCandidates = ();
+                return nextLhsFrame;
+            }
+            any|error lhsKFRes = lhsKF(nextLhsFrame);
+            if (lhsKFRes is error) {
+                return prepareQueryBodyError(lhsKFRes);
+            }
+            self.lhsFrame = nextLhsFrame;
+            self.rhsCandidates = rhsFramesMap.get(lhsKFRes);
+            self.rhsCandidateIndex = 0;
         }
-        return f;
     }
 
     public function reset() {
-        self.joinedFramesStream = ();
+        self.lhsFrame = ();
+        self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -433,6 +523,7 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
     error? failureAtJoin = ();
@@ -454,7 +545,7 @@ class _OuterJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -475,7 +566,6 @@ class _OuterJoinFunction {
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
         error? failureAtJoin = self.failureAtJoin;
-        string lhsKey = "";
 
         if(failureAtJoin is error) {
             fail failureAtJoin;
@@ -487,21 +577,20 @@ class _OuterJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            any|error lhsKFRes = lhsKF(lhsFrame);
-            if (lhsKFRes is error) {
-                return prepareQueryBodyError(lhsKFRes);
-            }
-            lhsKey = (lhsKFRes).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                any|error lhsKFRes = lhsKF(lhsFrame);
+                if (lhsKFRes is error) {
+                    return prepareQueryBodyError(lhsKFRes);
+                }
+                rhsCandidates = rhsFramesMap.get(lhsKFRes);
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
 
             if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
-                } else {
+                _Frame rhsFrame = rhsCandidates[self.rhsCandidateIndex];
+                self.rhsCandidateIndex += 1;
+                if (self.rhsCandidateIndex >= rhsCandidates.length()) {
                     // Move to next lhs frame in next iteration.
                     self.rhsCandidates = ();
                     self.lhsFrame = ();
@@ -528,6 +617,7 @@ class _OuterJoinFunction {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -628,10 +718,95 @@ class _OrderByFunction {
     }
 }
 
-type RowGroupedData record {|
-    readonly anydata groupingKey;
-    _Frame[] frames;
-|};
+class _OrderByLimitFunction {
+    *_StreamFunction;
+
+    # Desugared functions to do;
+    # order by person.fname true, person.age false
+    # limit 10
+    function (_Frame _frame) returns error? orderKeyFunc;
+    function (_Frame _frame) returns int|error limitFunc;
+    stream<_Frame>? orderedStream;
+
+    function init(function (_Frame _frame) returns error? orderKeyFunc,
+            function (_Frame _frame) returns int limitFunc) {
+        self.orderKeyFunc = orderKeyFunc;
+        self.limitFunc = limitFunc;
+        self.orderedStream = ();
+        self.prevFunc = ();
+    }
+
+    public function process() returns _Frame|error? {
+        if (self.orderedStream is ()) {
+            _StreamFunction pf = <_StreamFunction>self.prevFunc;
+            function (_Frame _frame) returns error? orderKeyFunc = self.orderKeyFunc;
+            function (_Frame _frame) returns int|error limitFunc = self.limitFunc;
+            _Frame|error? f = pf.process();
+            int lmt = 0;
+            if (f is _Frame) {
+                int|error res = limitFunc(f);
+                if (res is error) {
+                    return prepareQueryBodyError(res);
+                }
+                if (res < 1) {
+                    panic error("Invalid limit", message = "limit cannot be < 1.");
+                }
+                lmt = res;
+            }
+            // Only the first `lmt` frames in order are needed. Frames are buffered until the buffer holds `lmt`
+            // more frames than that, and then ordered and cut back to `lmt` frames.
+            _Frame[] topFrames = [];
+            while (f is _Frame) {
+                error? res = orderKeyFunc(f);
+                if (res is error) {
+                    return prepareQueryBodyError(res);
+                }
+                topFrames.push(f);
+                if (topFrames.length() - lmt >= lmt) {
+                    topFrames = self.getTopFrames(topFrames, lmt);
+                }
+                f = pf.process();
+            }
+            if (f is error) {
+                return f;
+            }
+            self.orderedStream = self.getTopFrames(topFrames, lmt).toStream();
+        }
+
+        stream<_Frame> s = <stream<_Frame>>self.orderedStream;
+        record {|_Frame value;|}|error? f = s.next();
+        if (f is record {|_Frame value;|}) {
+            return f.value;
+        }
+        return f;
+    }
+
+    # Orders the frames and returns the first `lmt` of them. The ordering is stable, hence frames kept from an
+    # earlier call stay ahead of later frames with the same order keys.
+    # + return - first `lmt` frames in order.
+    function getTopFrames(_Frame[] frames, int lmt) returns _Frame[] {
+        _OrderTreeNode oTree = new;
+        foreach _Frame f in frames {
+            any[] directions = <any[]>(checkpanic f["$orderDirection$"]);
+            any[] keys = <any[]>(checkpanic f["$orderKey$"]);
+            // _OrderTreeNode consumes the given arrays, while a kept frame may have to be ordered again.
+            oTree.add(f, directions.slice(0), keys.slice(0));
+        }
+        _Frame[] orderedFrames = oTree.get();
+        if (orderedFrames.length() > lmt) {
+            orderedFrames.setLength(lmt);
+        }
+        return orderedFrames;
+    }
+
+    public function reset() {
+        self.orderedStream = ();
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+}
 
 class _GroupByFunction {
     *_StreamFunction;
@@ -639,30 +814,45 @@ class _GroupByFunction {
     string[] keys;
     string[] nonGroupingKeys;
     stream<_Frame>? groupedStream;
-    table<RowGroupedData> key(groupingKey) tbl;
 
     function init(string[] keys, string[] nonGroupingKeys) {
         self.keys = keys;
         self.nonGroupingKeys = nonGroupingKeys;
         self.groupedStream = ();
-        self.tbl = table [];
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
         if (self.groupedStream is ()) {
             _StreamFunction pf = <_StreamFunction>self.prevFunc;
+            // Grouped frames are updated as frames arrive, so that only the values of the non grouping keys are
+            // kept, not the frames themselves.
+            handle groupIndex = createGroupIndex();
+            _Frame[] groupedFrames = [];
             _Frame? f = check pf.process();
             while f is _Frame {
-                anydata & readonly key = (check self.getKey(f)).cloneReadOnly();
-                if self.tbl.hasKey(key) {
-                    self.tbl.get(key).frames.push(f);
+                anydata key = check self.getKey(f);
+                _Frame groupedFrame;
+                _Frame? existingGroupedFrame = getGroup(groupIndex, key);
+                if existingGroupedFrame is _Frame {
+                    groupedFrame = existingGroupedFrame;
                 } else {
-                    self.tbl.add({groupingKey: key, frames: [f]});
+                    groupedFrame = self.createGroupedFrame(f);
+                    putGroup(groupIndex, key.cloneReadOnly(), groupedFrame);
+                    groupedFrames.push(groupedFrame);
+                }
+                foreach var nonGroupingKey in self.nonGroupingKeys {
+                    any|error sequenceValue = groupedFrame[nonGroupingKey];
+                    if sequenceValue is any {
+                        any|error val = f[nonGroupingKey];
+                        if val !is () {
+                            (<(any|error)[]> sequenceValue).push(val);
+                        }
+                    }
                 }
                 f = check pf.process();
             }
-            self.groupedStream = self.convertToStream(self.tbl);
+            self.groupedStream = groupedFrames.toStream();
         }
 
         stream<_Frame> s = <stream<_Frame>>self.groupedStream;
@@ -686,32 +876,15 @@ class _GroupByFunction {
         return keys;
     }
 
-    private function convertToStream(table<RowGroupedData> key(groupingKey) tbl) returns stream<_Frame> {
-        _Frame[] groupedFrames = [];
-
-        foreach var entry in tbl {
-            _Frame groupedFrame = {};
-            _Frame firstFrame = entry.frames[0];
-            foreach var key in self.keys {
-                groupedFrame[key] = firstFrame[key];
-            }
-            foreach var nonGroupingKey in self.nonGroupingKeys {
-                groupedFrame[nonGroupingKey] = [];
-            }
-            foreach var f in entry.frames {
-                foreach var nonGroupingKey in self.nonGroupingKeys {
-                    any|error sequenceValue = groupedFrame[nonGroupingKey];
-                    if sequenceValue is any {
-                        any|error val = f[nonGroupingKey];
-                        if val !is () {
-                            (<(any|error)[]> sequenceValue).push(val);
-                        }
-                    }
-                }
-            }
-            groupedFrames.push(groupedFrame);
+    private function createGroupedFrame(_Frame firstFrame) returns _Frame {
+        _Frame groupedFrame = {};
+        foreach var key in self.keys {
+            groupedFrame[key] = firstFrame[key];
         }
-        return groupedFrames.toStream();
+        foreach var nonGroupingKey in self.nonGroupingKeys {
+            groupedFrame[nonGroupingKey] = [];
+        }
+        return groupedFrame;
     }
 }
 
@@ -918,35 +1091,26 @@ class _LimitFunction {
 // ---- helper types ----
 
 class _FrameMultiMap {
-    map<_Frame[]> m;
+    handle m;
 
     function init() {
-        self.m = {};
+        self.m = createJoinIndex();
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
+    function put(any k, _Frame v) {
+        _Frame[]? vals = getJoinCandidates(self.m, k);
         if (vals is _Frame[]) {
             vals.push(v);
         } else {
-            self.m[k] = [v];
+            putJoinCandidates(self.m, k, [v]);
         }
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
+    # Returns the frames put with a key equal to `k`.
+    # The returned array is shared by all lookups of the key, hence it must not be modified.
+    function get(any k) returns _Frame[]? {
+        return getJoinCandidates(self.m, k);
     }
-
 }
 
 class IterHelper {
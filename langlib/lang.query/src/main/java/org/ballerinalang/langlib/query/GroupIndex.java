@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BMap;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash index used by the query group by clause to look up the grouped frame of a grouping key.
+ *
+ * @since 2201.9.0
+ */
+public class GroupIndex {
+
+    private GroupIndex() {
+    }
+
+    public static BHandle createGroupIndex() {
+        return ValueCreator.createHandleValue(new HashMap<ShapeKey, BMap<?, ?>>());
+    }
+
+    public static Object getGroup(BHandle index, Object key) {
+        return getIndex(index).get(new ShapeKey(key));
+    }
+
+    public static void putGroup(BHandle index, Object key, BMap<?, ?> groupedFrame) {
+        getIndex(index).put(new ShapeKey(key), groupedFrame);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<ShapeKey, BMap<?, ?>> getIndex(BHandle index) {
+        return (Map<ShapeKey, BMap<?, ?>>) index.getValue();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BHandle;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash index used by the query join clauses to look up the frames of the joined pipeline by their key.
+ * <p>
+ * Keys are compared with the same deep equality as the `==` operator, and hashed on their shape, so that keys do not
+ * have to be converted to strings.
+ *
+ * @since 2201.9.0
+ */
+public class JoinIndex {
+
+    private JoinIndex() {
+    }
+
+    public static BHandle createJoinIndex() {
+        return ValueCreator.createHandleValue(new HashMap<ShapeKey, BArray>());
+    }
+
+    public static Object getJoinCandidates(BHandle index, Object key) {
+        return getIndex(index).get(new ShapeKey(key));
+    }
+
+    public static void putJoinCandidates(BHandle index, Object key, BArray candidates) {
+        getIndex(index).put(new ShapeKey(key), candidates);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<ShapeKey, BArray> getIndex(BHandle index) {
+        return (Map<ShapeKey, BArray>) index.getValue();
+    }
+}
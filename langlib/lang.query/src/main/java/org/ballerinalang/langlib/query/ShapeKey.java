@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.Map;
+
+/**
+ * Wraps a Ballerina value to be used as a hash map key. Keys are hashed on the shape of the value and compared with
+ * the same deep equality as the `==` operator.
+ *
+ * @since 2201.9.0
+ */
+final class ShapeKey {
+
+    /**
+     * Structured keys are only hashed up to this depth. Hashing less of a key can only cause more collisions, and it
+     * keeps cyclic keys from being followed forever.
+     */
+    private static final int MAX_HASH_DEPTH = 4;
+
+    private final Object value;
+    private final int hash;
+
+    ShapeKey(Object value) {
+        this.value = value;
+        this.hash = hash(value, 0);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ShapeKey other)) {
+            return false;
+        }
+        return hash == other.hash && TypeChecker.isEqual(value, other.value);
+    }
+
+    /**
+     * Returns a hash code which is the same for all values that are equal according to `==`.
+     *
+     * @param value Ballerina value
+     * @param depth nesting depth of the value within the key
+     * @return hash code of the value
+     */
+    private static int hash(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Long longValue) {
+            return Long.hashCode(longValue);
+        }
+        if (value instanceof Integer byteValue) {
+            // Bytes are equal to ints of the same value.
+            return Long.hashCode(byteValue);
+        }
+        if (value instanceof Double doubleValue) {
+            // -0.0 == 0.0, so both have to hash the same.
+            return doubleValue == 0.0 ? 0 : doubleValue.hashCode();
+        }
+        if (value instanceof BDecimal decimalValue) {
+            // Decimals are compared by value, ignoring their precision.
+            return decimalValue.decimalValue().stripTrailingZeros().hashCode();
+        }
+        if (value instanceof BString || value instanceof Boolean) {
+            return value.hashCode();
+        }
+        if (depth >= MAX_HASH_DEPTH) {
+            return 0;
+        }
+        if (value instanceof BMap<?, ?> mapValue) {
+            // Mappings are equal regardless of the order of their fields.
+            int result = 0;
+            for (Map.Entry<?, ?> entry : mapValue.entrySet()) {
+                result += entry.getKey().hashCode() ^ hash(entry.getValue(), depth + 1);
+            }
+            return result;
+        }
+        if (value instanceof BArray arrayValue) {
+            int result = 1;
+            long length = arrayValue.getLength();
+            for (long i = 0; i < length; i++) {
+                result = 31 * result + hash(arrayValue.get(i), depth + 1);
+            }
+            return result;
+        }
+        // Other values such as xml and tables are rarely used as keys, let equality tell them apart.
+        return 0;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+import java.util.Arrays;
+
+/**
+ * Sorted index on an int or string field of the rows of a readonly table, used by queries which iterate a table and
+ * filter its rows on a range of values of a field right away.
+ * <p>
+ * Like hash indexes, a sorted index is only used once it is declared with {@link #addIndex(BTable, BString)}, and is
+ * kept in the native data of the table. Only readonly tables can be indexed, hence the index cannot get out of date.
+ *
+ * @since 2201.9.0
+ */
+public class SortedTableFieldIndex {
+
+    private static final String INDEX_NATIVE_DATA_PREFIX = "ballerina.lang.query.sortedIndex.";
+
+    private final ArrayType rowArrayType;
+    // Rows in the order of the table.
+    private final Object[] rows;
+    // Field values of the rows in ascending order, along with the positions of their rows in the rows array.
+    private final Object[] fieldValues;
+    private final int[] rowPositions;
+
+    private SortedTableFieldIndex(TableValueImpl<?, ?> table, BString fieldName) {
+        TableType tableType = (TableType) TypeUtils.getImpliedType(table.getType());
+        this.rowArrayType = TypeCreator.createArrayType(tableType.getConstrainedType());
+        this.rows = table.values().toArray();
+        Object[] rowFieldValues = new Object[rows.length];
+        Integer[] order = new Integer[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            rowFieldValues[i] = ((BMap<?, ?>) rows[i]).get(fieldName);
+            order[i] = i;
+        }
+        // The sort is stable, hence rows with the same field value stay in the order of the table.
+        Arrays.sort(order, (i, j) -> compare(rowFieldValues[i], rowFieldValues[j]));
+        this.fieldValues = new Object[rows.length];
+        this.rowPositions = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            fieldValues[i] = rowFieldValues[order[i]];
+            rowPositions[i] = order[i];
+        }
+    }
+
+    /**
+     * Declares a sorted index on the given field of the rows of the given readonly table, so that queries which filter
+     * the rows of the table on a range of values of the field only iterate the rows in that range.
+     *
+     * @param table     readonly table to index
+     * @param fieldName name of an int or string field
+     */
+    public static void addIndex(BTable<?, ?> table, BString fieldName) {
+        int fieldTypeTag = TypeUtils.getImpliedType(TableFieldIndex.checkIndexedField(table, fieldName)).getTag();
+        if (!TypeTags.isIntegerTypeTag(fieldTypeTag) && !TypeTags.isStringTypeTag(fieldTypeTag)) {
+            throw ErrorCreator.createError(StringUtils.fromString("cannot create a sorted index on field '" +
+                    fieldName.getValue() + "': only int and string fields can be sorted"));
+        }
+        TableValueImpl<?, ?> tableValue = (TableValueImpl<?, ?>) table;
+        // Readonly tables can be queried from several strands at once.
+        synchronized (tableValue) {
+            tableValue.addNativeData(INDEX_NATIVE_DATA_PREFIX + fieldName.getValue(),
+                    new SortedTableFieldIndex(tableValue, fieldName));
+        }
+    }
+
+    /**
+     * Returns the rows of the given table whose value in the given field is within the given bounds, in the order of
+     * the table. All rows of the table are returned, as the table itself, if no sorted index has been declared on
+     * the field.
+     *
+     * @param table          table to look up
+     * @param fieldName      name of the field
+     * @param lowerBound     lower bound of the field values, or nil if there is no lower bound
+     * @param lowerInclusive whether rows with the lower bound as the field value are included
+     * @param upperBound     upper bound of the field values, or nil if there is no upper bound
+     * @param upperInclusive whether rows with the upper bound as the field value are included
+     * @return matching rows, which must not be modified, or the table
+     */
+    public static Object getRowsInRange(BTable<?, ?> table, BString fieldName, Object lowerBound,
+                                        boolean lowerInclusive, Object upperBound, boolean upperInclusive) {
+        TableValueImpl<?, ?> tableValue = (TableValueImpl<?, ?>) table;
+        SortedTableFieldIndex index;
+        synchronized (tableValue) {
+            index = (SortedTableFieldIndex) tableValue.getNativeData(INDEX_NATIVE_DATA_PREFIX + fieldName.getValue());
+        }
+        if (index == null) {
+            return table;
+        }
+
+        int from = lowerBound == null ? 0 : index.search(lowerBound, !lowerInclusive);
+        int to = upperBound == null ? index.fieldValues.length : index.search(upperBound, upperInclusive);
+        BArray matchingRows = ValueCreator.createArrayValue(index.rowArrayType);
+        if (from >= to) {
+            return matchingRows;
+        }
+        int[] positions = Arrays.copyOfRange(index.rowPositions, from, to);
+        Arrays.sort(positions);
+        for (int position : positions) {
+            matchingRows.append(index.rows[position]);
+        }
+        return matchingRows;
+    }
+
+    /**
+     * Returns the position of the first field value which is greater than the given value, or not less than it.
+     *
+     * @param value value to look for
+     * @param after whether the field values equal to the value are to be skipped
+     * @return position of the first field value that is not to be skipped
+     */
+    private int search(Object value, boolean after) {
+        int low = 0;
+        int high = fieldValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compare(fieldValues[mid], value);
+            if (comparison < 0 || (after && comparison == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(Object lhs, Object rhs) {
+        return ValueComparisonUtils.compareValues(lhs, rhs, "");
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash index on a field of the rows of a readonly table, used by queries which iterate a table and filter its rows on
+ * the value of a field right away.
+ * <p>
+ * An index is only used once it is declared with {@link #addIndex(BTable, BString)}, and is kept in the native data of
+ * the table. Only readonly tables can be indexed, hence the index cannot get out of date, and the rows found through
+ * it are the same rows a query iterating the table would see.
+ *
+ * @since 2201.9.0
+ */
+public class TableFieldIndex {
+
+    private static final String INDEX_NATIVE_DATA_PREFIX = "ballerina.lang.query.index.";
+
+    private final ArrayType rowArrayType;
+    private final Map<ShapeKey, BArray> rows = new HashMap<>();
+
+    private TableFieldIndex(TableValueImpl<?, ?> table, BString fieldName) {
+        TableType tableType = (TableType) TypeUtils.getImpliedType(table.getType());
+        this.rowArrayType = TypeCreator.createArrayType(tableType.getConstrainedType());
+        for (Object row : table.values()) {
+            ShapeKey key = new ShapeKey(((BMap<?, ?>) row).get(fieldName));
+            rows.computeIfAbsent(key, k -> ValueCreator.createArrayValue(rowArrayType)).append(row);
+        }
+    }
+
+    /**
+     * Declares a hash index on the given field of the rows of the given readonly table, so that the rows with a given
+     * value in the field can be found with {@link #getRowsWithFieldValue(BTable, BString, Object)} without iterating
+     * the table.
+     *
+     * @param table     readonly table to index
+     * @param fieldName name of the field
+     */
+    public static void addIndex(BTable<?, ?> table, BString fieldName) {
+        checkIndexedField(table, fieldName);
+        TableValueImpl<?, ?> tableValue = (TableValueImpl<?, ?>) table;
+        // Readonly tables can be queried from several strands at once.
+        synchronized (tableValue) {
+            tableValue.addNativeData(INDEX_NATIVE_DATA_PREFIX + fieldName.getValue(),
+                    new TableFieldIndex(tableValue, fieldName));
+        }
+    }
+
+    /**
+     * Returns the rows of the given table which have a value equal to the given value in the given field, in the
+     * order of the table. All rows of the table are returned, as the table itself, if no index has been declared on
+     * the field.
+     *
+     * @param table     table to look up
+     * @param fieldName name of the field
+     * @param value     value to look for
+     * @return matching rows, which must not be modified, or the table
+     */
+    public static Object getRowsWithFieldValue(BTable<?, ?> table, BString fieldName, Object value) {
+        TableValueImpl<?, ?> tableValue = (TableValueImpl<?, ?>) table;
+        TableFieldIndex index;
+        synchronized (tableValue) {
+            index = (TableFieldIndex) tableValue.getNativeData(INDEX_NATIVE_DATA_PREFIX + fieldName.getValue());
+        }
+        if (index == null) {
+            return table;
+        }
+        BArray matchingRows = index.rows.get(new ShapeKey(value));
+        return matchingRows != null ? matchingRows : ValueCreator.createArrayValue(index.rowArrayType);
+    }
+
+    /**
+     * Checks that the given field of the rows of the given table can be indexed, which is the case if the table is
+     * readonly, as neither its rows nor their field values can change then.
+     *
+     * @param table     table to index
+     * @param fieldName name of the field
+     * @return type of the field
+     */
+    static Type checkIndexedField(BTable<?, ?> table, BString fieldName) {
+        Type tableType = TypeUtils.getImpliedType(table.getType());
+        Type rowType = TypeUtils.getImpliedType(((TableType) tableType).getConstrainedType());
+        Field field = rowType instanceof RecordType recordType ?
+                recordType.getFields().get(fieldName.getValue()) : null;
+        if (field == null) {
+            throw ErrorCreator.createError(StringUtils.fromString(
+                    "cannot index field '" + fieldName.getValue() + "': the rows of the table have no such field"));
+        }
+        if (!tableType.isReadOnly()) {
+            throw ErrorCreator.createError(StringUtils.fromString(
+                    "cannot index field '" + fieldName.getValue() + "': the table is not readonly"));
+        }
+        return field.getFieldType();
+    }
+}
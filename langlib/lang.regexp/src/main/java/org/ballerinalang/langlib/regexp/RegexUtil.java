@@ -34,6 +34,8 @@ import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import io.ballerina.runtime.internal.values.RegExpValue;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -50,6 +52,13 @@ public class RegexUtil {
     static final BArrayType GROUPS_AS_SPAN_ARRAY_TYPE = new BArrayType(SPAN_AS_TUPLE_TYPE);
 
     static final BArrayType GROUPS_ARRAY_TYPE = new BArrayType(GROUPS_AS_SPAN_ARRAY_TYPE);
+
+    // Regular expressions which are not constants are created again on each evaluation, hence the compiled patterns
+    // are also cached by their string form. The cache is simply cleared when it grows beyond its limit.
+    private static final int MAX_CACHED_PATTERNS = 1000;
+    private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, Pattern> SPLIT_PATTERN_CACHE = new ConcurrentHashMap<>();
+
     static Matcher getMatcher(BRegexpValue regexpVal, BString inputStr) {
         try {
             return getMatcher(regexpVal, inputStr.getValue());
@@ -79,11 +88,37 @@ public class RegexUtil {
     }
 
     static Matcher getMatcher(BRegexpValue regexpVal, String inputStr) {
+        return getPattern((RegExpValue) regexpVal).matcher(inputStr);
+    }
+
+    private static Pattern getPattern(RegExpValue regExpValue) {
+        Pattern pattern = regExpValue.getPattern();
+        if (pattern == null) {
+            pattern = getCachedPattern(PATTERN_CACHE, regExpValue, Pattern.UNICODE_CHARACTER_CLASS);
+            regExpValue.setPattern(pattern);
+        }
+        return pattern;
+    }
+
+    static Pattern getSplitPattern(RegExpValue regExpValue) {
+        return getCachedPattern(SPLIT_PATTERN_CACHE, regExpValue, 0);
+    }
+
+    private static Pattern getCachedPattern(Map<String, Pattern> cache, RegExpValue regExpValue, int flags) {
+        String regExpStr = StringUtils.getStringValue(regExpValue);
+        Pattern pattern = cache.get(regExpStr);
+        if (pattern != null) {
+            return pattern;
+        }
         // Map the required ballerina regexp constructs to java.
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regexpVal);
+        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs(regExpValue);
         String patternStr = StringUtils.getStringValue(translatedRegExpVal);
-        Pattern pattern = Pattern.compile(patternStr, Pattern.UNICODE_CHARACTER_CLASS);
-        return pattern.matcher(inputStr);
+        pattern = Pattern.compile(patternStr, flags);
+        if (cache.size() >= MAX_CACHED_PATTERNS) {
+            cache.clear();
+        }
+        cache.put(regExpStr, pattern);
+        return pattern;
     }
 
     static BArray getGroupZeroAsSpan(BString str, Matcher matcher, int[] surrogates) {
@@ -23,6 +23,7 @@ import io.ballerina.runtime.observability.metrics.MetricId;
 import io.ballerina.runtime.observability.metrics.Snapshot;
 import io.ballerina.runtime.observability.metrics.StatisticConfig;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -38,7 +39,11 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
 
     private final LongAdder count = new LongAdder();
     private final DoubleAdder sum = new DoubleAdder();
-    private final DoubleAdder value = new DoubleAdder();
+    // Bits of the current value, which is updated without locking so that concurrent observations do not block. Unlike
+    // the count and the sum, the value is kept in a single word rather than striped over cells, as setValue replaces it
+    // atomically and each increment and decrement records the value it results in, neither of which can be done with
+    // striped cells, whose sum is not exact while they are being updated.
+    private final AtomicLong value = new AtomicLong(Double.doubleToLongBits(0));
     private final RollingHistogram[] rollingHistograms;
 
     private DefaultGauge(MetricId id, Clock clock, StatisticConfig... statisticConfigs) {
@@ -68,33 +73,32 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
 
     @Override
     public void increment(double amount) {
-        synchronized (this) {
-            value.add(amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(addAndGet(amount));
     }
 
     @Override
     public void decrement(double amount) {
-        synchronized (this) {
-            value.add(-amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(addAndGet(-amount));
     }
 
     @Override
     public void setValue(double value) {
-        synchronized (this) {
-            this.value.reset();
-            this.value.add(value);
-            updateHistogram(value);
-        }
+        this.value.set(Double.doubleToLongBits(value));
+        updateHistogram(value);
     }
 
     @Override
     public double getValue() {
-        synchronized (this) {
-            return value.sum();
+        return Double.longBitsToDouble(value.get());
+    }
+
+    private double addAndGet(double amount) {
+        while (true) {
+            long currentBits = value.get();
+            double newValue = Double.longBitsToDouble(currentBits) + amount;
+            if (value.compareAndSet(currentBits, Double.doubleToLongBits(newValue))) {
+                return newValue;
+            }
         }
     }
 
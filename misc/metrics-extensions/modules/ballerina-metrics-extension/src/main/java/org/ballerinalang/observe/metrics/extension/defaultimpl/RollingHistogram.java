@@ -28,6 +28,13 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 /**
  * Using {@link DoubleHistogram} to maintain samples in a ring buffer to decay older samples and give greater weight
  * to recent samples. This implementation allows to get summary statistics for a rolling window over the last X minutes.
+ * <p>
+ * Samples are recorded into one of the stripes of the ring buffer, chosen by the recording thread, and the stripes are
+ * merged when taking a snapshot. There is a single stripe to begin with, and the number of stripes is doubled each
+ * time a thread finds another thread recording into its stripe, up to {@link #MAX_STRIPES}, in the same way as
+ * {@link java.util.concurrent.atomic.LongAdder} adds cells. Hence a histogram which is not recorded from several
+ * threads at once keeps a single recorder per bucket, and a contended one uses at most {@code MAX_STRIPES} recorders
+ * per bucket.
  */
 public class RollingHistogram {
 
@@ -42,9 +49,20 @@ public class RollingHistogram {
     private final StatisticConfig statisticConfig;
 
     /**
-     * Recorder in a ring buffer.
+     * Maximum number of stripes, which bounds the memory used by a histogram recorded from many threads to
+     * {@code MAX_STRIPES * ageBuckets} recorders.
      */
-    private final DoubleRecorder[] ringBuffer;
+    static final int MAX_STRIPES = 16;
+
+    /**
+     * Stripes of recorders, whose number is a power of two. The array is replaced as a whole when stripes are added.
+     */
+    private volatile Stripe[] stripes;
+
+    /**
+     * Number of buckets in the ring buffer.
+     */
+    private final int ageBuckets;
 
     /**
      * Current bucket index.
@@ -82,6 +100,12 @@ public class RollingHistogram {
      */
     private volatile int rotating; // 0 - not rotating, 1 - rotating
 
+    /**
+     * Global atomic field updater to update volatile {@code recording} integer of stripes.
+     */
+    private static final AtomicIntegerFieldUpdater<Stripe> stripeRecordingUpdater =
+            AtomicIntegerFieldUpdater.newUpdater(Stripe.class, "recording");
+
     /**
      * A flag to check whether accumulatedHistogram is stale or not.
      */
@@ -90,29 +114,64 @@ public class RollingHistogram {
     public RollingHistogram(Clock clock, StatisticConfig statisticConfig) {
         this.clock = clock;
         this.statisticConfig = statisticConfig;
-        int ageBuckets = (int) statisticConfig.getBuckets();
-        ringBuffer = new DoubleRecorder[ageBuckets];
-        for (int i = 0; i < ageBuckets; i++) {
-            ringBuffer[i] = new DoubleRecorder(statisticConfig.getPercentilePrecision());
-        }
+        this.ageBuckets = (int) statisticConfig.getBuckets();
         this.currentBucket = 0;
         this.lastRotateTimestampMillis = clock.getCurrentTime();
         this.durationBetweenRotatesMillis = statisticConfig.getTimeWindow().toMillis() / ageBuckets;
         intervalHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
         accumulatedHistogram = new DoubleHistogram(statisticConfig.getPercentilePrecision());
+        stripes = new Stripe[]{new Stripe(ageBuckets, statisticConfig.getPercentilePrecision())};
     }
 
     public void record(double value) {
         rotate();
         try {
-            for (DoubleRecorder recorder : ringBuffer) {
-                recorder.recordValue(value);
+            Stripe[] currentStripes = stripes;
+            long threadId = Thread.currentThread().getId();
+            Stripe stripe = currentStripes[(int) (threadId ^ (threadId >>> 32)) & (currentStripes.length - 1)];
+            if (stripeRecordingUpdater.compareAndSet(stripe, 0, 1)) {
+                try {
+                    stripe.record(value);
+                } finally {
+                    stripe.recording = 0;
+                }
+            } else {
+                // Another thread is recording into the same stripe, hence the following samples are spread over
+                // more stripes. The recorders are thread safe, so this sample is still recorded into the stripe.
+                addStripes(currentStripes);
+                stripe.record(value);
             }
         } finally {
-            accumulatedHistogramStale = true;
+            // Only written if needed, so that recording threads do not keep invalidating each other's cache line.
+            if (!accumulatedHistogramStale) {
+                accumulatedHistogramStale = true;
+            }
         }
     }
 
+    private void addStripes(Stripe[] currentStripes) {
+        if (currentStripes.length >= MAX_STRIPES) {
+            return;
+        }
+        // Synchronized with rotations and snapshots, which go through all the stripes.
+        synchronized (this) {
+            if (stripes != currentStripes) {
+                // Stripes have been added by another thread already.
+                return;
+            }
+            Stripe[] newStripes = new Stripe[currentStripes.length * 2];
+            System.arraycopy(currentStripes, 0, newStripes, 0, currentStripes.length);
+            for (int i = currentStripes.length; i < newStripes.length; i++) {
+                newStripes[i] = new Stripe(ageBuckets, statisticConfig.getPercentilePrecision());
+            }
+            stripes = newStripes;
+        }
+    }
+
+    int getStripeCount() {
+        return stripes.length;
+    }
+
     private void rotate() {
         long timeSinceLastRotateMillis = clock.getCurrentTime() - lastRotateTimestampMillis;
         if (timeSinceLastRotateMillis < durationBetweenRotatesMillis) {
@@ -128,15 +187,15 @@ public class RollingHistogram {
             int iterations = 0;
             synchronized (this) {
                 do {
-                    currentHistogram().reset();
-                    if (++currentBucket >= ringBuffer.length) {
+                    resetCurrentBucket();
+                    if (++currentBucket >= ageBuckets) {
                         currentBucket = 0;
                     }
                     timeSinceLastRotateMillis -= durationBetweenRotatesMillis;
                     lastRotateTimestampMillis += durationBetweenRotatesMillis;
-                } while (timeSinceLastRotateMillis >= durationBetweenRotatesMillis && ++iterations < ringBuffer.length);
+                } while (timeSinceLastRotateMillis >= durationBetweenRotatesMillis && ++iterations < ageBuckets);
 
-                if (iterations >= ringBuffer.length) {
+                if (iterations >= ageBuckets) {
                     // All buckets have been reset, therefore update lastRotateTimestampMillis
                     // to the most recent time window
                     lastRotateTimestampMillis += durationBetweenRotatesMillis *
@@ -181,17 +240,48 @@ public class RollingHistogram {
 
     private void accumulateIfStale() {
         if (accumulatedHistogramStale) {
-            accumulate();
+            // Cleared first, so that samples recorded while accumulating mark the histogram stale again.
             accumulatedHistogramStale = false;
+            accumulate();
         }
     }
 
     private void accumulate() {
-        currentHistogram().getIntervalHistogramInto(intervalHistogram);
-        accumulatedHistogram.add(intervalHistogram);
+        for (Stripe stripe : stripes) {
+            stripe.recorders[currentBucket].getIntervalHistogramInto(intervalHistogram);
+            accumulatedHistogram.add(intervalHistogram);
+        }
     }
 
-    private DoubleRecorder currentHistogram() {
-        return ringBuffer[currentBucket];
+    private void resetCurrentBucket() {
+        for (Stripe stripe : stripes) {
+            stripe.recorders[currentBucket].reset();
+        }
+    }
+
+    /**
+     * Recorders of a stripe in a ring buffer.
+     */
+    private static class Stripe {
+
+        private final DoubleRecorder[] recorders;
+
+        /**
+         * A flag to check whether a thread is recording into this stripe, which tells of contention on the stripe.
+         */
+        private volatile int recording; // 0 - not recording, 1 - recording
+
+        private Stripe(int ageBuckets, int percentilePrecision) {
+            recorders = new DoubleRecorder[ageBuckets];
+            for (int i = 0; i < ageBuckets; i++) {
+                recorders[i] = new DoubleRecorder(percentilePrecision);
+            }
+        }
+
+        private void record(double value) {
+            for (DoubleRecorder recorder : recorders) {
+                recorder.recordValue(value);
+            }
+        }
     }
 }
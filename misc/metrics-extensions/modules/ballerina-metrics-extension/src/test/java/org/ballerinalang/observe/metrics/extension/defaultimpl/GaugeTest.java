@@ -20,6 +20,7 @@ package org.ballerinalang.observe.metrics.extension.defaultimpl;
 import io.ballerina.runtime.observability.metrics.Gauge;
 import io.ballerina.runtime.observability.metrics.MetricRegistry;
 import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -72,4 +73,17 @@ public class GaugeTest {
         Assert.assertEquals(4.0, gauge.getSum());
     }
 
+    @Test
+    public void testConcurrentGaugeUpdates() {
+        Gauge gauge = Gauge.builder("test_concurrent_gauge").description("Test Gauge")
+                .summarize(StatisticConfig.DEFAULT).register(metricRegistry);
+        IntStream.range(0, 10000).parallel().forEach(i -> {
+            gauge.increment();
+            gauge.decrement();
+        });
+        Assert.assertEquals(gauge.getValue(), 0D);
+        Assert.assertEquals(gauge.getCount(), 20000);
+        Assert.assertEquals(gauge.getSnapshots()[0].getMin(), 0D);
+    }
+
 }
@@ -25,6 +25,7 @@ import org.testng.annotations.Test;
 
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -160,6 +161,36 @@ public class RollingHistogramTest {
         Assert.assertEquals(snapshot.getMax(), 0.0, 1.0);
     }
 
+    @Test
+    public void testSingleThreadUsesSingleStripe() {
+        RollingHistogram histogram = new RollingHistogram(Clock.DEFAULT, StatisticConfig.builder()
+                .expiry(Duration.ofDays(1)).buckets(3).build());
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        Assert.assertEquals(histogram.getStripeCount(), 1);
+        Assert.assertEquals(histogram.getSnapshot().getMax(), 1000.0, 1.0);
+    }
+
+    @Test
+    public void testConcurrentRecording() {
+        RollingHistogram histogram = new RollingHistogram(Clock.DEFAULT, StatisticConfig.builder()
+                .percentiles(new double[]{0.5})
+                .percentilePrecision(5)
+                .expiry(Duration.ofDays(1)).buckets(3).build());
+        IntStream.rangeClosed(1, 100_000).parallel().forEach(histogram::record);
+
+        int stripeCount = histogram.getStripeCount();
+        Assert.assertTrue(stripeCount >= 1 && stripeCount <= RollingHistogram.MAX_STRIPES, "" + stripeCount);
+        Assert.assertEquals(Integer.bitCount(stripeCount), 1);
+        // Samples recorded into all the stripes are merged in the snapshot.
+        Snapshot snapshot = histogram.getSnapshot();
+        Assert.assertEquals(snapshot.getMin(), 1.0, 0.5);
+        Assert.assertEquals(snapshot.getMax(), 100_000.0, 5.0);
+        Assert.assertEquals(snapshot.getMean(), 50_000.5, 5.0);
+        Assert.assertEquals(percentileValue(snapshot, 0.5), 50_000.0, 5.0);
+    }
+
     private double percentileValue(Snapshot snapshot, double p) {
         for (PercentileValue percentileValue : snapshot.getPercentileValues()) {
             if (percentileValue.getPercentile() == p) {
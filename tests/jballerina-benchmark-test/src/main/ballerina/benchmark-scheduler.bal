@@ -0,0 +1,70 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+// Run these with `BALLERINA_SCHEDULER_MODE` set to `work-stealing` or `virtual-thread` to compare the scheduler
+// backends against the default scheduler.
+
+const BLOCKING_CALL_DURATION_MILLIS = 1;
+
+isolated function blockingSleep(int millis) returns error? = @java:Method {
+    name: "sleep",
+    'class: "java.lang.Thread",
+    paramTypes: ["long"]
+} external;
+
+isolated function sum(int n) returns int {
+    int total = 0;
+    foreach int i in 0 ..< n {
+        total += i;
+    }
+    return total;
+}
+
+public function benchmarkStartWithBlockingInterop(int warmupCount, int benchmarkCount) returns int {
+    startAndWaitBlockingStrands(warmupCount);
+    int startTime = nanoTime();
+    startAndWaitBlockingStrands(benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+public function benchmarkStartWithComputation(int warmupCount, int benchmarkCount) returns int {
+    startAndWaitComputingStrands(warmupCount);
+    int startTime = nanoTime();
+    startAndWaitComputingStrands(benchmarkCount);
+    return nanoTime() - startTime;
+}
+
+function startAndWaitBlockingStrands(int count) {
+    future<error?>[] futures = [];
+    foreach int _ in 0 ..< count {
+        futures.push(start blockingSleep(BLOCKING_CALL_DURATION_MILLIS));
+    }
+    foreach future<error?> f in futures {
+        checkpanic wait f;
+    }
+}
+
+function startAndWaitComputingStrands(int count) {
+    future<int>[] futures = [];
+    foreach int _ in 0 ..< count {
+        futures.push(start sum(100));
+    }
+    foreach future<int> f in futures {
+        _ = wait f;
+    }
+}
@@ -36,6 +36,8 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkStartWithBlockingInterop", benchmarkStartWithBlockingInterop);
+    addSingleExecFunction("benchmarkStartWithComputation", benchmarkStartWithComputation);
 }
 
 public function registerMultiExecFunctions() {
@@ -124,6 +124,16 @@ public class JoinClauseTest {
     public void testJoinClauseWithLargeList() {
         BRunUtil.invoke(result, "testJoinClauseWithLargeList");
     }
+
+    @Test(description = "Test join on keys which are equal but have different string representations")
+    public void testJoinOnKeysEqualByValue() {
+        BRunUtil.invoke(result, "testJoinOnKeysEqualByValue");
+    }
+
+    @Test(description = "Test join where the lhs key of a later frame is an error")
+    public void testJoinWithErrorInLaterLhsKey() {
+        BRunUtil.invoke(result, "testJoinWithErrorInLaterLhsKey");
+    }
     
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
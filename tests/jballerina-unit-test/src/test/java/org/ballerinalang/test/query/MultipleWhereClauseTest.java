@@ -20,7 +20,11 @@ package org.ballerinalang.test.query;
 
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BTable;
+import org.ballerinalang.langlib.query.SortedTableFieldIndex;
+import org.ballerinalang.langlib.query.TableFieldIndex;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
 import org.ballerinalang.test.CompileResult;
@@ -36,6 +40,8 @@ import org.testng.annotations.Test;
  */
 public class MultipleWhereClauseTest {
 
+    private static final String HASH_INDEX_PREFIX = "ballerina.lang.query.index.";
+
     private CompileResult result;
 
     @BeforeClass
@@ -86,6 +92,87 @@ public class MultipleWhereClauseTest {
         Assert.assertEquals((person1.get(StringUtils.fromString("score"))), 90.6);
     }
 
+    @Test(description = "Test where clause on a readonly field of a table")
+    public void testWhereClauseOnReadonlyTableField() {
+        BArray returnValues = (BArray) BRunUtil.invoke(result, "testWhereClauseOnReadonlyTableField");
+        Assert.assertEquals(returnValues.toString(), "[1,3,3,4,0]");
+    }
+
+    @Test(description = "Test where clauses which look up the rows of a table through a hash index")
+    public void testWhereClauseWithTableFieldIndex() {
+        // Without a hash index, the whole table is iterated.
+        BTable<?, ?> employees = createEmployeeTable();
+        assertIds(BRunUtil.invoke(result, "getIdsOfConstantDept", new Object[]{employees}), "[3,2]");
+        Assert.assertNull(employees.getNativeData(HASH_INDEX_PREFIX + "dept"));
+
+        TableFieldIndex.addIndex(employees, StringUtils.fromString("dept"));
+        Assert.assertNotNull(employees.getNativeData(HASH_INDEX_PREFIX + "dept"));
+        assertIds(BRunUtil.invoke(result, "getIdsOfConstantDept", new Object[]{employees}), "[3,2]");
+        assertIds(BRunUtil.invoke(result, "getIdsOfDept", new Object[]{employees, StringUtils.fromString("HR")}),
+                "[4,1]");
+        assertIds(BRunUtil.invoke(result, "getIdsOfDept", new Object[]{employees, StringUtils.fromString("X")}),
+                "[]");
+        assertIds(BRunUtil.invoke(result, "getIdsOfFinalDept", new Object[]{employees}), "[4,1]");
+    }
+
+    @Test(description = "Test where clauses on values which can change while iterating a table")
+    public void testWhereClauseWithoutTableFieldIndex() {
+        // The department compared with changes to Sales after the first row, hence the rows cannot be looked up once.
+        BTable<?, ?> employees = createEmployeeTable();
+        TableFieldIndex.addIndex(employees, StringUtils.fromString("dept"));
+        assertIds(BRunUtil.invoke(result, "getIdsOfDeptChangedByClosure", new Object[]{employees}), "[4,3,2]");
+        assertIds(BRunUtil.invoke(result, "getIdsOfDeptChangedInDoClause", new Object[]{employees}), "[4,3,2]");
+
+        SortedTableFieldIndex.addIndex(employees, StringUtils.fromString("id"));
+        assertIds(BRunUtil.invoke(result, "getIdsInRangeChangedByClosure", new Object[]{employees}), "[1,3,2,5]");
+    }
+
+    @Test(description = "Test where clauses on a range of field values of a table")
+    public void testWhereClauseWithSortedTableFieldIndex() {
+        BTable<?, ?> employees = createEmployeeTable();
+        // Without a sorted index, the whole table is iterated.
+        assertIds(BRunUtil.invoke(result, "getIdsInRange", new Object[]{employees, 2L, 4L}), "[3,2]");
+
+        SortedTableFieldIndex.addIndex(employees, StringUtils.fromString("id"));
+        SortedTableFieldIndex.addIndex(employees, StringUtils.fromString("dept"));
+        assertIds(BRunUtil.invoke(result, "getIdsInRange", new Object[]{employees, 2L, 4L}), "[3,2]");
+        assertIds(BRunUtil.invoke(result, "getIdsInRange", new Object[]{employees, 4L, 2L}), "[]");
+        assertIds(BRunUtil.invoke(result, "getIdsAboveConstant", new Object[]{employees}), "[4,3,5]");
+        assertIds(BRunUtil.invoke(result, "getIdsInDeptRange", new Object[]{employees}), "[3,2,5]");
+    }
+
+    @Test(description = "Test where clauses on a readonly field of a table which changes while it is iterated")
+    public void testWhereClauseOnMutableTable() {
+        assertIds(BRunUtil.invoke(result, "getIdsOfDeptChangedInDoClauseOfMutableTable"), "[1,4]");
+        assertIds(BRunUtil.invoke(result, "getIdsOfDeptFromStreamOfMutableTable"), "[3,4]");
+        assertIds(BRunUtil.invoke(result, "getIdsInRangeFromStreamOfMutableTable"), "[2,4]");
+    }
+
+    @Test(description = "Test declaring indexes on a table which is not readonly")
+    public void testTableFieldIndexOnMutableTable() {
+        BTable<?, ?> employees = (BTable<?, ?>) BRunUtil.invoke(result, "createMutableEmployeeTable");
+        try {
+            TableFieldIndex.addIndex(employees, StringUtils.fromString("dept"));
+            Assert.fail("expected an error");
+        } catch (BError e) {
+            Assert.assertEquals(e.getMessage(), "cannot index field 'dept': the table is not readonly");
+        }
+        try {
+            SortedTableFieldIndex.addIndex(employees, StringUtils.fromString("id"));
+            Assert.fail("expected an error");
+        } catch (BError e) {
+            Assert.assertEquals(e.getMessage(), "cannot index field 'id': the table is not readonly");
+        }
+    }
+
+    private BTable<?, ?> createEmployeeTable() {
+        return (BTable<?, ?>) BRunUtil.invoke(result, "createEmployeeTable");
+    }
+
+    private static void assertIds(Object ids, String expected) {
+        Assert.assertEquals(ids.toString(), expected);
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
@@ -231,6 +231,12 @@ public class OrderByClauseTest {
                 "<author>Dan Brown</author><author>Enid Blyton</author>");
     }
 
+    @Test(description = "Test query expr with order by and limit clauses over more frames than the limit")
+    public void testQueryExprWithOrderByClauseAndLimitOnLargeInput() {
+        Object returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByClauseAndLimitOnLargeInput");
+        Assert.assertTrue((Boolean) returnValues);
+    }
+
     @Test(description = "Test negative scenarios for query expr with order by clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 3);
@@ -32,6 +32,7 @@ import org.ballerinalang.test.utils.ByteArrayUtils;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 /**
@@ -573,6 +574,22 @@ public class ConstrainedMapTest {
         Assert.assertEquals(returns.toString(), "Jack");
     }
 
+    @Test(dataProvider = "unboxedValueStoreFunctions")
+    public void testStoreUnboxedValues(String function) {
+        BRunUtil.invoke(compileResult, function);
+    }
+
+    @DataProvider
+    public Object[] unboxedValueStoreFunctions() {
+        return new Object[]{
+                "testStoreUnboxedValues",
+                "testStoreIntSubtypeValueIntoIntMap",
+                "testStoreUnboxedValueIntoIntSubtypeMap",
+                "testStoreUnboxedValueIntoRecordAsMap",
+                "testStoreUnboxedValueIntoReadonlyMap"
+        };
+    }
+
     @AfterClass
     public void tearDown() {
         compileResult = null;
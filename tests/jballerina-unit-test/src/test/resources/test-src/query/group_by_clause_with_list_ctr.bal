@@ -2239,6 +2239,67 @@ function testErrorSeq() {
     
 }
 
+function testUnreferencedNonGroupingKeys() {
+    var input = [{name: "Saman", price1: 11, price2: 12},
+                    {name: "Saman", price1: 13, price2: 14},
+                    {name: "Kamal", price1: 15, price2: 16},
+                    {name: "Saman", price1: 17, price2: 18}];
+
+    // price1 and price2 are not referenced after the group by clause.
+    var x1 = from var {name, price1, price2} in input
+                group by name
+                select name;
+    assertEquality(["Saman", "Kamal"], x1);
+
+    // Only price1 is referenced.
+    var x2 = from var {name, price1, price2} in input
+                group by name
+                select [price1];
+    assertEquality([[11, 13, 17], [15]], x2);
+
+    // price2 is referenced only in the do clause.
+    int[][] prices = [];
+    _ = from var {name, price1, price2} in input
+                group by name
+                do {
+                    prices.push([price2]);
+                };
+    assertEquality([[12, 14, 18], [16]], prices);
+
+    // price2 is referenced only in a nested query.
+    var x3 = from var {name, price1, price2} in input
+                group by name
+                select from var p in [price2] where p > 12 select p;
+    assertEquality([[14, 18], [16]], x3);
+
+    // price1 is referenced only in the where clause of a nested query.
+    var x4 = from var {name, price1, price2} in input
+                group by name
+                select from var p in [11, 15] where [price1].indexOf(p) != () select p;
+    assertEquality([[11], [15]], x4);
+
+    // price2 is referenced only in the do clause of a nested query.
+    int[] sums = [];
+    _ = from var {name, price1, price2} in input
+                group by name
+                do {
+                    _ = from var p in [price2]
+                        do {
+                            sums.push(p);
+                        };
+                };
+    assertEquality([12, 14, 18, 16], sums);
+
+    // Neither price1 nor price2 is referenced after the collect clause.
+    var x5 = from var {name, price1, price2} in input
+                collect [name];
+    assertEquality(["Saman", "Saman", "Kamal", "Saman"], x5);
+
+    var x6 = from var {name, price1, price2} in input
+                collect [price2];
+    assertEquality([12, 14, 16, 18], x6);
+}
+
 function assertEquality(anydata expected, anydata actual) {
     if expected == actual {
         return;
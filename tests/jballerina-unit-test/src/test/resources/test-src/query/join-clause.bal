@@ -527,6 +527,87 @@ function getCommonList(string character) returns int {
     return commonList.length();
 }
 
+type Point record {|
+    int x;
+    int y;
+|};
+
+public function testJoinOnKeysEqualByValue() {
+    decimal[] amounts = [1.0, 2.50, 3];
+    decimal[] otherAmounts = [4, 3.000, 2.5, 1.00];
+    decimal[] matchedAmounts = from decimal a in amounts
+        join decimal b in otherAmounts on a equals b
+        select b;
+    assertEquality("[1.00,2.5,3.000]", matchedAmounts.toString());
+
+    decimal?[] outerMatchedAmounts = from decimal a in amounts
+        outer join var b in otherAmounts on a equals b
+        select b;
+    assertEquality("[1.00,2.5,3.000]", outerMatchedAmounts.toString());
+
+    float[] floats = [0.0, 1.5];
+    float[] otherFloats = [-0.0];
+    float[] matchedFloats = from float f in floats
+        join float g in otherFloats on f equals g
+        select f;
+    assertEquality(1, matchedFloats.length());
+
+    int[] ints = [1, 2, 300];
+    byte[] bytes = [2, 3];
+    int[] matchedInts = from int i in ints
+        join byte b in bytes on i equals b
+        select i;
+    assertEquality(<int[]>[2], matchedInts);
+
+    Point[] points = [{x: 1, y: 2}, {x: 3, y: 4}];
+    map<int>[] otherPoints = [{y: 4, x: 3}];
+    Point[] matchedPoints = from Point p in points
+        join map<int> q in otherPoints on p equals q
+        select p;
+    assertEquality(<Point[]>[{x: 3, y: 4}], matchedPoints);
+}
+
+function keyOrError(int i) returns int|error {
+    if i == 3 {
+        return error("invalid key");
+    }
+    return i;
+}
+
+public function testJoinWithErrorInLaterLhsKey() {
+    int[] processed = [];
+    error? res = ();
+    do {
+        check from int i in 1 ... 4
+            join int j in 1 ... 4 on check keyOrError(i) equals j
+            do {
+                processed.push(i);
+            };
+    } on fail error err {
+        res = err;
+    }
+    assertEquality(true, res is error);
+    if res is error {
+        assertEquality("invalid key", res.message());
+    }
+    // Joined frames are streamed, so the frames before the one with the failing key are processed.
+    assertEquality(<int[]>[1, 2], processed);
+
+    int[] outerProcessed = [];
+    error? outerRes = ();
+    do {
+        check from int i in 1 ... 4
+            outer join var j in 1 ... 4 on check keyOrError(i) equals j
+            do {
+                outerProcessed.push(i);
+            };
+    } on fail error err {
+        outerRes = err;
+    }
+    assertEquality(true, outerRes is error);
+    assertEquality(<int[]>[1, 2], outerProcessed);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertEquality(any|error expected, any|error actual) {
@@ -100,3 +100,166 @@ function testLogicalOperandsWithWhere() returns Student[]{
 
     return  outputStudentList;
 }
+
+type Employee record {|
+    readonly int id;
+    readonly string dept;
+    int salary;
+|};
+
+function testWhereClauseOnReadonlyTableField() returns int[] {
+    table<Employee> key(id) employees = table [
+        {id: 1, dept: "HR", salary: 100},
+        {id: 2, dept: "Sales", salary: 200},
+        {id: 3, dept: "HR", salary: 300}
+    ];
+    string dept = "HR";
+
+    int[] ids = from var e in employees
+        where e.dept == dept
+        select e.id;
+
+    employees.add({id: 4, dept: "HR", salary: 400});
+    int[] idsAfterAdd = from var e in employees
+        where "HR" == e.dept
+        where e.salary > 100
+        select e.id;
+
+    int[] salesIds = from var e in employees
+        where e.dept == "Finance"
+        select e.id;
+    return [...ids, ...idsAfterAdd, salesIds.length()];
+}
+
+const SALES = "Sales";
+
+type EmployeeTable readonly & table<Employee> key(id);
+
+function createEmployeeTable() returns EmployeeTable {
+    return table [
+        {id: 4, dept: "HR", salary: 400},
+        {id: 1, dept: "HR", salary: 100},
+        {id: 3, dept: "Sales", salary: 300},
+        {id: 2, dept: "Sales", salary: 200},
+        {id: 5, dept: "IT", salary: 500}
+    ];
+}
+
+function createMutableEmployeeTable() returns table<Employee> key(id) {
+    return table [
+        {id: 1, dept: "IT", salary: 100},
+        {id: 2, dept: "HR", salary: 200},
+        {id: 3, dept: "IT", salary: 300}
+    ];
+}
+
+function getIdsOfConstantDept(EmployeeTable employees) returns int[] {
+    return from var e in employees
+        where e.dept == SALES
+        select e.id;
+}
+
+function getIdsOfDept(EmployeeTable employees, string dept) returns int[] {
+    return from var e in employees
+        where e.dept == dept
+        select e.id;
+}
+
+function getIdsOfFinalDept(EmployeeTable employees) returns int[] {
+    final string dept = "HR";
+    return from var e in employees
+        where dept == e.dept
+        select e.id;
+}
+
+function getIdsOfDeptChangedByClosure(EmployeeTable employees) returns int[] {
+    string dept = "HR";
+    function () returns int changeDept = function() returns int {
+        dept = "Sales";
+        return 0;
+    };
+    return from var e in employees
+        where e.dept == dept
+        let int offset = changeDept()
+        select e.id + offset;
+}
+
+function getIdsOfDeptChangedInDoClause(EmployeeTable employees) returns int[] {
+    string dept = "HR";
+    int[] ids = [];
+    _ = from var e in employees
+        where e.dept == dept
+        do {
+            ids.push(e.id);
+            dept = "Sales";
+        };
+    return ids;
+}
+
+function getIdsInRange(EmployeeTable employees, int lower, int upper) returns int[] {
+    return from var e in employees
+        where e.id >= lower && e.id < upper
+        select e.id;
+}
+
+function getIdsAboveConstant(EmployeeTable employees) returns int[] {
+    return from var e in employees
+        where 2 < e.id
+        select e.id;
+}
+
+function getIdsInDeptRange(EmployeeTable employees) returns int[] {
+    return from var e in employees
+        where e.dept > "HR" && e.dept <= SALES
+        select e.id;
+}
+
+function getIdsInRangeChangedByClosure(EmployeeTable employees) returns int[] {
+    int upper = 2;
+    function () returns int changeUpper = function() returns int {
+        upper = 10;
+        return 0;
+    };
+    return from var e in employees
+        where e.id < upper
+        let int offset = changeUpper()
+        select e.id + offset;
+}
+
+function getIdsOfDeptChangedInDoClauseOfMutableTable() returns int[] {
+    // Rows added while iterating the table are iterated, and rows removed before they are reached are not.
+    table<Employee> key(id) employees = createMutableEmployeeTable();
+    int[] ids = [];
+    _ = from var e in employees
+        where e.dept == "IT"
+        do {
+            ids.push(e.id);
+            if e.id == 1 {
+                _ = employees.remove(3);
+                employees.add({id: 4, dept: "IT", salary: 400});
+            }
+        };
+    return ids;
+}
+
+function getIdsOfDeptFromStreamOfMutableTable() returns int[]|error {
+    table<Employee> key(id) employees = createMutableEmployeeTable();
+    stream<int, error?> idStream = stream from var e in employees
+        where e.dept == "IT"
+        select e.id;
+    _ = employees.remove(1);
+    employees.add({id: 4, dept: "IT", salary: 400});
+    return from int id in idStream
+        select id;
+}
+
+function getIdsInRangeFromStreamOfMutableTable() returns int[]|error {
+    table<Employee> key(id) employees = createMutableEmployeeTable();
+    stream<int, error?> idStream = stream from var e in employees
+        where e.id > 1
+        select e.id;
+    _ = employees.remove(3);
+    employees.add({id: 4, dept: "HR", salary: 400});
+    return from int id in idStream
+        select id;
+}
@@ -502,3 +502,29 @@ function incrementCount(int i) returns int {
     int count = i + 2;
     return count;
 }
+
+function testQueryExprWithOrderByClauseAndLimitOnLargeInput() returns boolean {
+    int[] values = [];
+    foreach int i in 0 ..< 100 {
+        values.push(i);
+    }
+
+    // Frames with equal order keys keep their input order.
+    int[] lowestByLastDigit = from var v in values
+         order by v % 10
+         limit 15
+         select v;
+
+    int[] highest = from var v in values
+         order by v descending
+         limit 3
+         select v;
+
+    int[] all = from var v in values
+         order by v descending
+         limit 200
+         select v;
+
+    return lowestByLastDigit == [0, 10, 20, 30, 40, 50, 60, 70, 80, 90, 1, 11, 21, 31, 41]
+            && highest == [99, 98, 97] && all.length() == 100 && all[99] == 0;
+}
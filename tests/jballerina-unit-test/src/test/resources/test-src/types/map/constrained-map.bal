@@ -583,3 +583,144 @@ function testMapAnyDataClosedRecordAssignment() returns (anydata) {
     map<anydata> m = p;
     return m["name"];
 }
+
+function testStoreUnboxedValues() {
+    int i = 10;
+    float f = 2.5;
+    boolean b = true;
+    byte by = 200;
+
+    map<int> ints = {};
+    ints["i"] = i;
+    map<byte> bytes = {};
+    bytes["by"] = by;
+    map<float> floats = {};
+    floats["f"] = f;
+    map<boolean> booleans = {};
+    booleans["b"] = b;
+    assertEquality(10, ints["i"]);
+    assertEquality(200, bytes["by"]);
+    assertEquality(2.5, floats["f"]);
+    assertEquality(true, booleans["b"]);
+
+    map<json> jsonMap = {};
+    map<anydata> anydataMap = {};
+    foreach map<anydata> m in [jsonMap, anydataMap] {
+        m["i"] = i;
+        m["f"] = f;
+        m["b"] = b;
+        m["by"] = by;
+        assertEquality(<anydata> {i: 10, f: 2.5, b: true, by: 200}, m);
+        assertEquality(true, m["by"] is byte);
+    }
+}
+
+function testStoreIntSubtypeValueIntoIntMap() {
+    int:Signed8 s8 = -100;
+    byte by = 255;
+    map<int> ints = {};
+    ints["s8"] = s8;
+    storeByte(ints, "by", by);
+    assertEquality(-100, ints["s8"]);
+
+    // The byte is read back as an int.
+    int value = ints.get("by");
+    assertEquality(256, value + 1);
+    int total = 0;
+    foreach int v in ints {
+        total += v;
+    }
+    assertEquality(155, total);
+}
+
+function testStoreUnboxedValueIntoIntSubtypeMap() {
+    map<int:Signed8> s8Map = {};
+    map<int> ints = s8Map;
+    storeInt(ints, "a", 100);
+    error? e = trap storeInt(ints, "b", 1000);
+    assertInherentTypeViolation(e, "invalid map insertion: expected value of type 'int:Signed8', found 'int'");
+    assertEquality(<map<int>> {a: 100}, ints);
+
+    map<byte> bytes = {};
+    map<anydata> anydataMap = bytes;
+    e = trap storeInt(anydataMap, "c", -1);
+    assertInherentTypeViolation(e, "invalid map insertion: expected value of type 'byte', found 'int'");
+    e = trap storeFloat(anydataMap, "d", 1.0);
+    assertInherentTypeViolation(e, "invalid map insertion: expected value of type 'byte', found 'float'");
+    e = trap storeBoolean(anydataMap, "e", false);
+    assertInherentTypeViolation(e, "invalid map insertion: expected value of type 'byte', found 'boolean'");
+    assertEquality(0, bytes.length());
+}
+
+function testStoreUnboxedValueIntoRecordAsMap() {
+    record {| int a; readonly int b; |} rec = {a: 1, b: 2};
+    map<int> ints = rec;
+    storeInt(ints, "a", 3);
+    assertEquality(3, rec.a);
+
+    error? e = trap storeInt(ints, "c", 4);
+    assertTrue(e is error);
+    assertEquality("{ballerina/lang.map}KeyNotFound", (<error> e).message());
+    e = trap storeInt(ints, "b", 4);
+    assertTrue(e is error);
+    assertEquality("{ballerina/lang.map}InherentTypeViolation", (<error> e).message());
+    assertEquality(<map<int>> {a: 3, b: 2}, ints);
+
+    record {| float...; |} floatRec = {};
+    map<anydata> anydataMap = floatRec;
+    e = trap storeBoolean(anydataMap, "f", true);
+    assertTrue(e is error);
+    assertEquality("{ballerina/lang.map}InherentTypeViolation", (<error> e).message());
+    storeFloat(anydataMap, "f", 1.5);
+    assertEquality(<anydata> {f: 1.5}, floatRec);
+}
+
+function testStoreUnboxedValueIntoReadonlyMap() {
+    map<int> & readonly readonlyInts = {a: 1};
+    error? e = trap storeInt(readonlyInts, "b", 2);
+    assertTrue(e is error);
+    assertEquality("{ballerina/lang.map}InvalidUpdate", (<error> e).message());
+
+    map<json> & readonly readonlyJson = {};
+    e = trap storeFloat(readonlyJson, "c", 2.5);
+    assertTrue(e is error);
+    assertEquality("{ballerina/lang.map}InvalidUpdate", (<error> e).message());
+    e = trap storeByte(readonlyJson, "d", 1);
+    assertTrue(e is error);
+    assertEquality(<map<int>> {a: 1}, readonlyInts);
+    assertEquality(0, readonlyJson.length());
+}
+
+function storeInt(map<anydata> m, string key, int value) {
+    m[key] = value;
+}
+
+function storeFloat(map<anydata> m, string key, float value) {
+    m[key] = value;
+}
+
+function storeBoolean(map<anydata> m, string key, boolean value) {
+    m[key] = value;
+}
+
+function storeByte(map<anydata> m, string key, byte value) {
+    m[key] = value;
+}
+
+function assertInherentTypeViolation(error? e, string detailMessage) {
+    assertTrue(e is error);
+    error err = <error> e;
+    assertEquality("{ballerina/lang.map}InherentTypeViolation", err.message());
+    assertEquality(detailMessage, <string> err.detail()["message"]);
+}
+
+function assertTrue(boolean actual) {
+    assertEquality(true, actual);
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error(string `expected '${expected.toString()}', found '${actual.toString()}'`);
+}